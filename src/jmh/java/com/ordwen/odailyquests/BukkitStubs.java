@@ -0,0 +1,120 @@
+package com.ordwen.odailyquests;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Minimal stand-ins for the Bukkit objects used on the benchmarked paths.
+ * <p>
+ * Only the methods called by the plugin are implemented, any other method returns the default value of its type.
+ * Events are not dispatched, items have no meta and players have every permission.
+ */
+public final class BukkitStubs {
+
+    /**
+     * Answers the calls made on a stub, or returns {@link #DEFAULT} to use the default value of the return type.
+     */
+    @FunctionalInterface
+    private interface Answer {
+        Object answer(Object stub, Method method, Object[] args);
+    }
+
+    private static final Object DEFAULT = new Object();
+
+    private BukkitStubs() {
+    }
+
+    /**
+     * Install the stub server, once per JVM.
+     *
+     * @return the installed server.
+     */
+    public static synchronized Server installServer() {
+        if (Bukkit.getServer() != null) return Bukkit.getServer();
+
+        final Logger logger = Logger.getLogger("Benchmark");
+        final PluginManager pluginManager = stub(PluginManager.class, (stub, method, args) -> DEFAULT);
+        final ItemFactory itemFactory = stub(ItemFactory.class, (stub, method, args) -> switch (method.getName()) {
+            case "equals" -> Objects.equals(args[0], args[1]);
+            default -> DEFAULT;
+        });
+
+        final Server server = stub(Server.class, (stub, method, args) -> switch (method.getName()) {
+            case "getLogger" -> logger;
+            case "getName", "getVersion", "getBukkitVersion" -> "benchmark";
+            case "getPluginManager" -> pluginManager;
+            case "getItemFactory" -> itemFactory;
+            default -> DEFAULT;
+        });
+
+        Bukkit.setServer(server);
+        return server;
+    }
+
+    /**
+     * Create an online player with every permission.
+     *
+     * @param name  player name.
+     * @param world world the player is in.
+     * @return the player.
+     */
+    public static Player player(String name, World world) {
+        final UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        return stub(Player.class, (stub, method, args) -> switch (method.getName()) {
+            case "getName", "getDisplayName" -> name;
+            case "getUniqueId" -> uuid;
+            case "getWorld" -> world;
+            case "getPlayer" -> stub;
+            case "hasPermission", "isOnline" -> true;
+            default -> DEFAULT;
+        });
+    }
+
+    /**
+     * Create a world.
+     *
+     * @param name world name.
+     * @return the world.
+     */
+    public static World world(String name) {
+        return stub(World.class, (stub, method, args) -> method.getName().equals("getName") ? name : DEFAULT);
+    }
+
+    private static <T> T stub(Class<T> type, Answer answer) {
+        final Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (stub, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> stub == args[0];
+                    case "hashCode" -> System.identityHashCode(stub);
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+
+            final Object value = answer.answer(stub, method, args);
+            return value == DEFAULT ? defaultValue(method.getReturnType()) : value;
+        });
+        return type.cast(proxy);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0F;
+        if (type == double.class) return 0D;
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ordwen.odailyquests.configuration;
+
+import com.ordwen.odailyquests.configuration.essentials.Antiglitch;
+import com.ordwen.odailyquests.configuration.essentials.Database;
+import com.ordwen.odailyquests.configuration.essentials.Debugger;
+import com.ordwen.odailyquests.configuration.essentials.Logs;
+import com.ordwen.odailyquests.configuration.essentials.Synchronization;
+import com.ordwen.odailyquests.configuration.essentials.TimestampMode;
+import com.ordwen.odailyquests.configuration.functionalities.CompleteOnlyOnClick;
+import com.ordwen.odailyquests.configuration.functionalities.DisabledWorlds;
+import com.ordwen.odailyquests.configuration.functionalities.progression.ProgressBar;
+import com.ordwen.odailyquests.configuration.functionalities.progression.ProgressionMessage;
+import com.ordwen.odailyquests.configuration.integrations.PapiPlaceholders;
+import com.ordwen.odailyquests.files.implementations.ConfigurationFile;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.List;
+
+/**
+ * Registers the configurations read on the benchmarked paths, with the default values of {@code config.yml}.
+ * Logs and progression messages are disabled, so the benchmarks measure the plugin code only.
+ */
+public final class BenchmarkConfigs {
+
+    private static boolean registered;
+
+    private BenchmarkConfigs() {
+    }
+
+    public static synchronized void register() {
+        if (registered) return;
+
+        final YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("debug", false);
+        yaml.set("disable_logs", true);
+        yaml.set("storage_mode", "SQLITE");
+        yaml.set("timestamp_mode", 1);
+        yaml.set("synchronised_progression", false);
+        yaml.set("store_placed_blocks", false);
+        yaml.set("store_broken_blocks", false);
+        yaml.set("store_dropped_items", false);
+        yaml.set("disabled_worlds", List.of());
+        yaml.set("complete_only_on_click", false);
+        yaml.set("progression_message.enabled", false);
+        yaml.set("progress_bar.symbol", "|");
+        yaml.set("progress_bar.completed_color", "&a");
+        yaml.set("progress_bar.remaining_color", "&7");
+        yaml.set("progress_bar.amount_of_symbols", 20);
+
+        final ConfigurationFile file = new ConfigurationFile(null) {
+            {
+                config = yaml;
+            }
+
+            @Override
+            public void load() {
+                // values are set in memory
+            }
+        };
+
+        ConfigFactory.register(Debugger.class, new Debugger(file));
+        ConfigFactory.register(Logs.class, new Logs(file));
+        ConfigFactory.register(Database.class, new Database(file));
+        ConfigFactory.register(TimestampMode.class, new TimestampMode(file));
+        ConfigFactory.register(Antiglitch.class, new Antiglitch(file));
+        ConfigFactory.register(Synchronization.class, new Synchronization(file));
+        ConfigFactory.register(DisabledWorlds.class, new DisabledWorlds(file));
+        ConfigFactory.register(CompleteOnlyOnClick.class, new CompleteOnlyOnClick(file));
+        ConfigFactory.register(ProgressionMessage.class, new ProgressionMessage(file));
+        ConfigFactory.register(ProgressBar.class, new ProgressBar(file));
+        ConfigFactory.register(PapiPlaceholders.class, new PapiPlaceholders(file));
+
+        registered = true;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ordwen.odailyquests.externs.hooks.placeholders;
+
+import com.ordwen.odailyquests.BukkitStubs;
+import com.ordwen.odailyquests.commands.interfaces.playerinterface.PlayerQuestsInterface;
+import com.ordwen.odailyquests.configuration.BenchmarkConfigs;
+import com.ordwen.odailyquests.quests.BenchmarkQuests;
+import com.ordwen.odailyquests.quests.player.PlayerQuests;
+import com.ordwen.odailyquests.quests.player.QuestsManager;
+import com.ordwen.odailyquests.quests.types.global.ExpPointsQuest;
+import com.ordwen.odailyquests.tools.TextFormatter;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PAPIExpansion#onRequest}, as called by PlaceholderAPI for scoreboards and holograms.
+ * <p>
+ * {@code unchanged} requests a value the player quests did not change since the last request, so it is served from
+ * the placeholder cache. {@code afterProgress} marks the player quests as changed before each request, so the
+ * value is rendered again, like after a progression. PlaceholderAPI itself is not loaded, so placeholders of other
+ * plugins are not expanded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class PAPIExpansionBenchmark {
+
+    @Param({"progress_1", "progressbar_2", "status_3", "name_1", "desc_2_1"})
+    public String params;
+
+    private PAPIExpansion expansion;
+    private Player player;
+    private PlayerQuests playerQuests;
+
+    /**
+     * Quest menu texts, as read from the player interface file.
+     */
+    private static final class StubInterface extends PlayerQuestsInterface {
+
+        private StubInterface() {
+            super(null);
+        }
+
+        @Override
+        public String getAchievedStr() {
+            return "&aAchieved";
+        }
+
+        @Override
+        public String getProgressStr() {
+            return "&e%progress%&7/&e%required%";
+        }
+
+        @Override
+        public String getCompleteGetTypeStr() {
+            return "&eClick to complete";
+        }
+    }
+
+    @Setup
+    public void setup() {
+        BenchmarkConfigs.register();
+        BukkitStubs.installServer();
+
+        expansion = new PAPIExpansion(new StubInterface());
+        // enabled by the expansion, but PlaceholderAPI is not loaded
+        TextFormatter.setPlaceholderAPIEnabled(false);
+
+        player = BukkitStubs.player("Benchmark", BukkitStubs.world("world"));
+        playerQuests = BenchmarkQuests.playerQuests(3, 1000, index -> new ExpPointsQuest(BenchmarkQuests.basic(index,
+                "EXP_POINTS", "&6Gain %required% experience points", List.of("&7Progress: %progressBar%", "&7%status%"))));
+        QuestsManager.getActiveQuestsRegistry().put(player, playerQuests);
+    }
+
+    @TearDown
+    public void tearDown() {
+        QuestsManager.getActiveQuestsRegistry().remove(player.getUniqueId());
+    }
+
+    @Benchmark
+    public String unchanged() {
+        return expansion.onRequest(player, params);
+    }
+
+    @Benchmark
+    public String afterProgress() {
+        playerQuests.markDirty();
+        return expansion.onRequest(player, params);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ordwen.odailyquests.quests;
+
+import com.ordwen.odailyquests.quests.player.PlayerQuests;
+import com.ordwen.odailyquests.quests.player.progression.Progression;
+import com.ordwen.odailyquests.quests.types.AbstractQuest;
+import com.ordwen.odailyquests.quests.types.shared.BasicQuest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds the quests and player quests used by the benchmarks, without loading quest files.
+ */
+public final class BenchmarkQuests {
+
+    public static final String[] CATEGORIES = {"easy", "medium", "hard"};
+
+    private BenchmarkQuests() {
+    }
+
+    /**
+     * Create the base definition of a quest.
+     *
+     * @param index     quest index, also used to pick its category.
+     * @param questType quest type.
+     * @param name      quest name.
+     * @param desc      quest description.
+     * @return the quest.
+     */
+    public static BasicQuest basic(int index, String questType, String name, List<String> desc) {
+        return new BasicQuest(index, String.valueOf(index), name, CATEGORIES[index % CATEGORIES.length], desc, questType,
+                null, 1, null, "1000", null, List.of(), List.of(), true, List.of(), List.of());
+    }
+
+    /**
+     * Create the quests of a player, in the order of their index.
+     *
+     * @param amount         amount of quests.
+     * @param requiredAmount required amount of each quest.
+     * @param factory        creates the quest of an index.
+     * @return the player quests.
+     */
+    public static PlayerQuests playerQuests(int amount, int requiredAmount, Function<Integer, AbstractQuest> factory) {
+        final Map<AbstractQuest, Progression> quests = new LinkedHashMap<>();
+        for (int i = 0; i < amount; i++) {
+            quests.put(factory.apply(i), new Progression(requiredAmount, 0D, 0, false));
+        }
+
+        final PlayerQuests playerQuests = new PlayerQuests(Map.of("default", System.currentTimeMillis()), quests);
+        playerQuests.setTotalAchievedQuestsByCategory(Map.of(CATEGORIES[0], 4, CATEGORIES[1], 2, CATEGORIES[2], 1));
+        return playerQuests;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ordwen.odailyquests.quests.player.progression;
+
+import com.ordwen.odailyquests.BukkitStubs;
+import com.ordwen.odailyquests.configuration.BenchmarkConfigs;
+import com.ordwen.odailyquests.quests.BenchmarkQuests;
+import com.ordwen.odailyquests.quests.player.QuestsManager;
+import com.ordwen.odailyquests.quests.types.AbstractQuest;
+import com.ordwen.odailyquests.quests.types.global.ExpPointsQuest;
+import com.ordwen.odailyquests.quests.types.global.MilkingQuest;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerExpChangeEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch of an event to the quests of a player, from
+ * {@link PlayerProgressor#setPlayerQuestProgression} down to the progression increase.
+ * <p>
+ * One quest out of three progresses with experience, the others with milking. {@code progress} dispatches an
+ * experience event, which raises the progression of the first matching quest. {@code noQuestOfType} dispatches
+ * a quest type the player has no quest of, like most events received by the listeners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class PlayerProgressorBenchmark {
+
+    @Param({"3", "9"})
+    public int questsPerPlayer;
+
+    private final PlayerProgressor progressor = new PlayerProgressor();
+
+    private Player player;
+    private PlayerExpChangeEvent event;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkConfigs.register();
+        BukkitStubs.installServer();
+
+        player = BukkitStubs.player("Benchmark", BukkitStubs.world("world"));
+        event = new PlayerExpChangeEvent(player, 1);
+    }
+
+    /* fresh quests for each iteration, the required amount is never reached */
+    @Setup(Level.Iteration)
+    public void loadQuests() {
+        QuestsManager.getActiveQuestsRegistry().put(player, BenchmarkQuests.playerQuests(questsPerPlayer, Integer.MAX_VALUE, this::createQuest));
+    }
+
+    @TearDown(Level.Iteration)
+    public void unloadQuests() {
+        QuestsManager.getActiveQuestsRegistry().remove(player.getUniqueId());
+    }
+
+    private AbstractQuest createQuest(int index) {
+        if (index % 3 == 0) {
+            return new ExpPointsQuest(BenchmarkQuests.basic(index, "EXP_POINTS", "Gain experience", List.of()));
+        }
+        return new MilkingQuest(BenchmarkQuests.basic(index, "MILKING", "Milk cows", List.of()));
+    }
+
+    @Benchmark
+    public void progress() {
+        progressor.setPlayerQuestProgression(event, player, 1, "EXP_POINTS");
+    }
+
+    @Benchmark
+    public void noQuestOfType() {
+        progressor.setPlayerQuestProgression(event, player, 1, "FISH");
+    }
+}
@@ -0,0 +1,93 @@
+package com.ordwen.odailyquests.quests.player.progression.storage.sql;
+
+import com.ordwen.odailyquests.configuration.BenchmarkConfigs;
+import com.ordwen.odailyquests.enums.SQLQuery;
+import com.ordwen.odailyquests.quests.BenchmarkQuests;
+import com.ordwen.odailyquests.quests.player.PlayerQuests;
+import com.ordwen.odailyquests.quests.player.progression.Progression;
+import com.ordwen.odailyquests.quests.types.global.ExpPointsQuest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the save of one player by {@link SaveProgressionSQL}, from the snapshot of the player quests to the
+ * committed transaction, against an in-memory SQLite database created with the plugin's own schema.
+ * <p>
+ * {@code fullSave} forgets the last saved state first, so every row is written, like the first save after a load.
+ * {@code deltaSave} writes the player row and the single quest that progressed since the previous save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class SQLiteSaveBenchmark {
+
+    @Param({"3", "9"})
+    public int questsPerPlayer;
+
+    /* connections are given to the save directly, the manager is never used */
+    private final SaveProgressionSQL saveProgressionSQL = new SaveProgressionSQL(null);
+
+    private Connection connection;
+    private String playerUuid;
+    private PlayerQuests playerQuests;
+    private Progression progression;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        BenchmarkConfigs.register();
+
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        playerUuid = UUID.randomUUID().toString();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SQLQuery.SQLITE_CREATE_PLAYER_TABLE.getQuery());
+            statement.execute(SQLQuery.SQLITE_CREATE_PROGRESSION_TABLE.getQuery());
+            statement.execute(SQLQuery.SQLITE_CREATE_PLAYER_CATEGORY_STATS_TABLE.getQuery());
+        }
+
+        playerQuests = BenchmarkQuests.playerQuests(questsPerPlayer, Integer.MAX_VALUE, index ->
+                new ExpPointsQuest(BenchmarkQuests.basic(index, "EXP_POINTS", "Gain experience", List.of())));
+        progression = playerQuests.getQuestAt(questsPerPlayer - 1).second();
+
+        fullSave();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void fullSave() throws SQLException {
+        saveProgressionSQL.invalidate(playerUuid);
+        save();
+    }
+
+    @Benchmark
+    public void deltaSave() throws SQLException {
+        save();
+    }
+
+    private void save() throws SQLException {
+        progression.increaseAdvancement();
+        saveProgressionSQL.saveDatasTransactional(connection, saveProgressionSQL.snapshot("Benchmark", playerUuid, playerQuests));
+    }
+}
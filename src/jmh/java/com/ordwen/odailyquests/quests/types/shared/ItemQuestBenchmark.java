@@ -0,0 +1,77 @@
+package com.ordwen.odailyquests.quests.types.shared;
+
+import com.ordwen.odailyquests.BukkitStubs;
+import com.ordwen.odailyquests.configuration.BenchmarkConfigs;
+import com.ordwen.odailyquests.quests.BenchmarkQuests;
+import com.ordwen.odailyquests.quests.player.progression.Progression;
+import com.ordwen.odailyquests.quests.types.item.PickupQuest;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ItemQuest#isRequiredItem}, which matches the item given by an event against the items required
+ * by a quest loaded from its configuration section.
+ * <p>
+ * {@code requiredItem} provides one of the required items, so the item is compared with {@code matchesItem}.
+ * {@code otherItem} provides an item of another material, rejected by the material lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class ItemQuestBenchmark {
+
+    private static final List<String> REQUIRED = List.of(
+            "WHEAT", "CARROT", "POTATO", "BEETROOT", "MELON_SLICE", "PUMPKIN", "SUGAR_CANE", "COCOA_BEANS"
+    );
+
+    @Param({"false", "true"})
+    public boolean ignoreNbt;
+
+    private ItemQuest quest;
+    private Progression progression;
+    private ItemStack required;
+    private ItemStack other;
+
+    @Setup
+    public void setup() {
+        BenchmarkConfigs.register();
+        BukkitStubs.installServer();
+
+        final YamlConfiguration file = new YamlConfiguration();
+        file.set("1.required", REQUIRED);
+        file.set("1.ignore_nbt", ignoreNbt);
+
+        quest = new PickupQuest(BenchmarkQuests.basic(1, "PICKUP", "Pick up crops", List.of()));
+        if (!quest.loadParameters(file.getConfigurationSection("1"), "benchmark.yml", "1")) {
+            throw new IllegalStateException("Unable to load the benchmark quest.");
+        }
+
+        progression = new Progression(1000, 0D, 0, false);
+        required = new ItemStack(Material.BEETROOT);
+        other = new ItemStack(Material.STONE);
+    }
+
+    @Benchmark
+    public boolean requiredItem() {
+        return quest.isRequiredItem(required, progression);
+    }
+
+    @Benchmark
+    public boolean otherItem() {
+        return quest.isRequiredItem(other, progression);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ordwen.odailyquests.tools;
+
+import com.ordwen.odailyquests.BukkitStubs;
+import com.ordwen.odailyquests.configuration.BenchmarkConfigs;
+import com.ordwen.odailyquests.quests.BenchmarkQuests;
+import com.ordwen.odailyquests.quests.player.PlayerQuests;
+import com.ordwen.odailyquests.quests.player.progression.Progression;
+import com.ordwen.odailyquests.quests.types.AbstractQuest;
+import com.ordwen.odailyquests.quests.types.global.ExpPointsQuest;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link QuestPlaceholders#replaceQuestPlaceholders} on the kind of lines found in quest names and
+ * descriptions, rendered for each quest of the menu.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class QuestPlaceholdersBenchmark {
+
+    @Param({"plain", "progress", "mixed"})
+    public String kind;
+
+    private String line;
+    private Player player;
+    private PlayerQuests playerQuests;
+    private AbstractQuest quest;
+    private Progression progression;
+
+    @Setup
+    public void setup() {
+        BenchmarkConfigs.register();
+        TextFormatter.setPlaceholderAPIEnabled(false);
+
+        line = switch (kind) {
+            case "progress" -> "&7Progress: &f%progress%&7/&f%required%";
+            case "mixed" -> "&7%progressBar% &f%progress%&7/&f%required% &8- &7Achieved today: &e%achieved% &8(%status%&8)";
+            default -> "&7Gain some experience points.";
+        };
+
+        player = BukkitStubs.player("Benchmark", BukkitStubs.world("world"));
+        playerQuests = BenchmarkQuests.playerQuests(3, 1000, index ->
+                new ExpPointsQuest(BenchmarkQuests.basic(index, "EXP_POINTS", "Gain experience", List.of(line))));
+
+        final Pair<AbstractQuest, Progression> first = playerQuests.getQuestAt(0);
+        quest = first.first();
+        progression = first.second();
+        for (int i = 0; i < 420; i++) {
+            progression.increaseAdvancement();
+        }
+    }
+
+    @Benchmark
+    public String replaceQuestPlaceholders() {
+        return QuestPlaceholders.replaceQuestPlaceholders(line, player, quest, progression, playerQuests, "&eIn progress");
+    }
+}
@@ -0,0 +1,45 @@
+package com.ordwen.odailyquests.tools;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TextFormatter#format(String)} on the kind of messages found in the quest menus.
+ * PlaceholderAPI is disabled, only color translation is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class TextFormatterBenchmark {
+
+    @Param({"plain", "legacy", "hex"})
+    public String kind;
+
+    private String message;
+
+    @Setup
+    public void setup() {
+        TextFormatter.setPlaceholderAPIEnabled(false);
+
+        message = switch (kind) {
+            case "legacy" -> "&a&lDaily quests &7- &eProgress: &f%progress%&7/&f%required% &8(&b%progressBar%&8)";
+            case "hex" -> "#FFAA00Daily quests #AAAAAA- #55FF55Progress: #FFFFFF%progress%#AAAAAA/#FFFFFF%required% #123ABCend";
+            default -> "Daily quests - Progress: %progress%/%required%";
+        };
+    }
+
+    @Benchmark
+    public String format() {
+        return TextFormatter.format(message);
+    }
+}
@@ -11,6 +11,8 @@ import com.ordwen.odailyquests.commands.player.handlers.MeCommand;
 import com.ordwen.odailyquests.commands.player.handlers.PRerollCommand;
 import com.ordwen.odailyquests.commands.player.handlers.PShowCommand;
 import com.ordwen.odailyquests.configuration.essentials.CheckForUpdate;
+import com.ordwen.odailyquests.configuration.essentials.Debugger;
+import com.ordwen.odailyquests.events.antiglitch.PlacedBlocks;
 import com.ordwen.odailyquests.events.restart.RestartHandler;
 import com.ordwen.odailyquests.externs.IntegrationsManager;
 import com.ordwen.odailyquests.commands.admin.AdminCommands;
@@ -73,6 +75,7 @@ public final class ODailyQuests extends JavaPlugin {
     private CategoriesLoader categoriesLoader;
     private DatabaseManager databaseManager;
     private RestartHandler restartHandler;
+    private EventsManager eventsManager;
 
     boolean isServerStopping;
 
@@ -138,7 +141,8 @@ public final class ODailyQuests extends JavaPlugin {
         new DatabaseUpdateManager(this).runUpdates();
 
         /* Load listeners */
-        new EventsManager(this).registerListeners();
+        this.eventsManager = new EventsManager(this);
+        eventsManager.registerListeners();
 
         /* Register all subcommands, from main plugin or addons */
         registerSubCommands();
@@ -154,6 +158,7 @@ public final class ODailyQuests extends JavaPlugin {
         /* Register plugin events */
         getServer().getPluginManager().registerEvents(new InventoryClickListener(interfacesManager.getQuestsInterfaces()), this);
         getServer().getPluginManager().registerEvents(new QuestsManager(this), this);
+        getServer().getPluginManager().registerEvents(interfacesManager.getPlayerQuestsInterface().getPlayerHead(), this);
         getServer().getPluginManager().registerEvents(new QuestCompletedListener(), this);
         getServer().getPluginManager().registerEvents(new AllQuestsCompletedListener(), this);
         getServer().getPluginManager().registerEvents(new AllCategoryQuestsCompletedListener(), this);
@@ -291,8 +296,10 @@ public final class ODailyQuests extends JavaPlugin {
 
         /* Avoid errors on reload */
         reloadService.saveConnectedPlayerQuests();
+        PlacedBlocks.saveAll();
 
         databaseManager.close();
+        Debugger.close();
         PluginLogger.info("Plugin is shutting down...");
     }
 
@@ -397,6 +404,15 @@ public final class ODailyQuests extends JavaPlugin {
         return databaseManager;
     }
 
+    /**
+     * Get EventsManager instance.
+     *
+     * @return EventsManager instance, or null if listeners are not registered yet.
+     */
+    public EventsManager getEventsManager() {
+        return eventsManager;
+    }
+
     /**
      * Get ODailyQuestsAPI instance.
      *
@@ -10,6 +10,7 @@ import com.ordwen.odailyquests.tools.PluginLogger;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * This class provides access to the ODailyQuests API, allowing interaction with quest types, player quests,
@@ -54,6 +55,16 @@ public class ODailyQuestsAPI {
         return QuestsManager.getActiveQuests().get(playerName);
     }
 
+    /**
+     * Retrieves the active quests for a specific player.
+     *
+     * @param playerUuid the UUID of the player
+     * @return the PlayerQuests object representing the player's active quests
+     */
+    public static PlayerQuests getPlayerQuests(UUID playerUuid) {
+        return QuestsManager.getActiveQuestsRegistry().get(playerUuid);
+    }
+
     /**
      * Retrieves the QuestTypeRegistry used to manage quest types.
      *
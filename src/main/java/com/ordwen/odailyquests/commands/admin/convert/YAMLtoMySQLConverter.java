@@ -4,6 +4,7 @@ import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.files.implementations.ProgressionFile;
 import com.ordwen.odailyquests.quests.player.progression.storage.sql.SQLManager;
 import com.ordwen.odailyquests.quests.player.progression.storage.sql.mysql.MySQLManager;
+import com.ordwen.odailyquests.quests.player.progression.storage.yaml.PlayerProgressionFiles;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import org.bukkit.configuration.file.FileConfiguration;
 
@@ -12,7 +13,7 @@ public class YAMLtoMySQLConverter extends SQLConverter {
     public boolean convert() {
         try {
             ODailyQuests.morePaperLib.scheduling().asyncScheduler().run(() -> {
-                final FileConfiguration progressionFile = ODailyQuests.INSTANCE.getFilesManager().getProgressionFile().getConfig();
+                final FileConfiguration progressionFile = new PlayerProgressionFiles(ODailyQuests.INSTANCE.getFilesManager().getProgressionFile()).exportAll();
                 final SQLManager sqlManager = new MySQLManager();
 
                 convertData(progressionFile, sqlManager);
@@ -4,6 +4,7 @@ import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.files.implementations.ProgressionFile;
 import com.ordwen.odailyquests.quests.player.progression.storage.sql.SQLManager;
 import com.ordwen.odailyquests.quests.player.progression.storage.sql.sqlite.SQLiteManager;
+import com.ordwen.odailyquests.quests.player.progression.storage.yaml.PlayerProgressionFiles;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import org.bukkit.configuration.file.FileConfiguration;
 
@@ -14,7 +15,7 @@ public class YAMLtoSQLiteConverter extends SQLConverter {
         try {
             ODailyQuests.morePaperLib.scheduling().asyncScheduler().run(() -> {
 
-                final FileConfiguration progressionFile = ODailyQuests.INSTANCE.getFilesManager().getProgressionFile().getConfig();
+                final FileConfiguration progressionFile = new PlayerProgressionFiles(ODailyQuests.INSTANCE.getFilesManager().getProgressionFile()).exportAll();
                 final SQLManager sqlManager = new SQLiteManager();
 
                 convertData(progressionFile, sqlManager);
@@ -0,0 +1,191 @@
+package com.ordwen.odailyquests.commands.interfaces.playerinterface;
+
+import com.ordwen.odailyquests.quests.player.progression.Progression;
+import com.ordwen.odailyquests.quests.types.AbstractQuest;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The rendered quests interface of a player, reused each time the player opens it.
+ * <p>
+ * The menu keeps the {@link com.ordwen.odailyquests.quests.player.PlayerQuests#getVersion() version} of the player
+ * quests it has been rendered from. When the version changes, only the quest items whose progression changed are
+ * rendered again. Lines depending on the time they are rendered at (remaining time, PlaceholderAPI placeholders) are
+ * refreshed on each opening.
+ */
+final class PlayerMenu {
+
+    /**
+     * Origin of a lore line of a quest item, used to render it again.
+     */
+    enum LineKind {
+        DESCRIPTION,
+        STATUS,
+        ACHIEVED,
+        PROGRESS,
+        HINT
+    }
+
+    /**
+     * A lore line that must be rendered again on each opening.
+     *
+     * @param index  position of the line in the lore.
+     * @param kind   origin of the line.
+     * @param source raw line, before any placeholder replacement.
+     */
+    record DynamicLine(int index, LineKind kind, String source) {
+    }
+
+    /**
+     * A rendered quest item, with the progression state it has been rendered from.
+     */
+    static final class QuestItem {
+
+        private final AbstractQuest quest;
+        private final int advancement;
+        private final int requiredAmount;
+        private final int selectedRequiredIndex;
+        private final boolean achieved;
+
+        private final ItemStack itemStack;
+        private final List<Integer> slots;
+        private final List<String> lore;
+        private final boolean timeDependentName;
+        private final List<DynamicLine> dynamicLines;
+
+        QuestItem(AbstractQuest quest, Progression progression, ItemStack itemStack, List<Integer> slots,
+                  List<String> lore, boolean timeDependentName, List<DynamicLine> dynamicLines) {
+            this.quest = quest;
+            this.advancement = progression.getAdvancement();
+            this.requiredAmount = progression.getRequiredAmount();
+            this.selectedRequiredIndex = progression.getSelectedRequiredIndex();
+            this.achieved = progression.isAchieved();
+            this.itemStack = itemStack;
+            this.slots = slots;
+            this.lore = lore;
+            this.timeDependentName = timeDependentName;
+            this.dynamicLines = dynamicLines;
+        }
+
+        AbstractQuest getQuest() {
+            return quest;
+        }
+
+        /**
+         * Check if the item still reflects the given quest and progression.
+         *
+         * @param quest       quest currently at the position of the item.
+         * @param progression current progression of the quest.
+         * @return true if the item does not need to be rendered again.
+         */
+        boolean isUpToDate(AbstractQuest quest, Progression progression) {
+            return this.quest == quest
+                    && advancement == progression.getAdvancement()
+                    && requiredAmount == progression.getRequiredAmount()
+                    && selectedRequiredIndex == progression.getSelectedRequiredIndex()
+                    && achieved == progression.isAchieved();
+        }
+
+        ItemStack getItemStack() {
+            return itemStack;
+        }
+
+        List<Integer> getSlots() {
+            return slots;
+        }
+
+        List<String> getLore() {
+            return lore;
+        }
+
+        boolean isTimeDependent() {
+            return timeDependentName || !dynamicLines.isEmpty();
+        }
+
+        boolean hasTimeDependentName() {
+            return timeDependentName;
+        }
+
+        List<DynamicLine> getDynamicLines() {
+            return dynamicLines;
+        }
+    }
+
+    private final Inventory inventory;
+    private final String title;
+    private final QuestItem[] questItems;
+    private final Set<Integer> timeDependentPapiSlots;
+    private final boolean timeDependentHead;
+
+    private long version;
+    private int achievedQuests;
+    private boolean headResolved;
+
+    PlayerMenu(Inventory inventory, String title, QuestItem[] questItems, Set<Integer> timeDependentPapiSlots, boolean timeDependentHead) {
+        this.inventory = inventory;
+        this.title = title;
+        this.questItems = questItems;
+        this.timeDependentPapiSlots = timeDependentPapiSlots;
+        this.timeDependentHead = timeDependentHead;
+    }
+
+    Inventory getInventory() {
+        return inventory;
+    }
+
+    String getTitle() {
+        return title;
+    }
+
+    /**
+     * Get the rendered quest items, by position in the player quests. A position is null if its item could not be rendered.
+     *
+     * @return the rendered quest items.
+     */
+    QuestItem[] getQuestItems() {
+        return questItems;
+    }
+
+    Set<Integer> getTimeDependentPapiSlots() {
+        return timeDependentPapiSlots;
+    }
+
+    boolean hasTimeDependentHead() {
+        return timeDependentHead;
+    }
+
+    /**
+     * Check if the player head has been rendered with its owner.
+     *
+     * @return false if the head must be rendered again once its owner has been resolved.
+     */
+    boolean isHeadResolved() {
+        return headResolved;
+    }
+
+    void setHeadResolved(boolean headResolved) {
+        this.headResolved = headResolved;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    int getAchievedQuests() {
+        return achievedQuests;
+    }
+
+    /**
+     * Record the player quests state the menu is now up to date with.
+     *
+     * @param version        player quests version.
+     * @param achievedQuests number of achieved quests, displayed by the %achieved% placeholder.
+     */
+    void markRendered(long version, int achievedQuests) {
+        this.version = version;
+        this.achievedQuests = achievedQuests;
+    }
+}
@@ -53,7 +53,9 @@ import java.util.regex.Pattern;
  *
  * <strong>Important:</strong>
  * Static items are stored in {@code playerQuestsInventoryBase}, while dynamic quest items
- * and PAPI-dependent items are merged into a fresh cloned inventory for each player.
+ * and PAPI-dependent items are merged into a cloned inventory for each player.
+ * That inventory is kept in a {@link PlayerMenu} and reused on the next openings: only the
+ * quest items whose progression changed and the time-dependent lines are rendered again.
  */
 public class PlayerQuestsInterface extends InterfaceItemGetter {
 
@@ -62,6 +64,8 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
 
     private static final String MATERIAL = "material";
 
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%[^%\\s]+%");
+
     /* instances */
     private final PlayerInterfaceFile playerInterfaceFile;
     private final PlayerHead playerHead;
@@ -82,6 +86,9 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
     /* items behavior */
     private final Set<Integer> closeOnClickSlots = new HashSet<>();
 
+    /* rendered menus, weakly referenced by the player quests they have been rendered from */
+    private final Map<PlayerQuests, PlayerMenu> menus = Collections.synchronizedMap(new WeakHashMap<>());
+
     /* init variables */
     private String interfaceName;
     private Inventory playerQuestsInventoryBase;
@@ -156,6 +163,10 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
      *     <li>Places quest items depending on progression</li>
      * </ul>
      * <p>
+     * The inventory is built on the first opening and reused afterwards. When the player quests changed since the
+     * last opening, only the quest items whose progression changed are rendered again. Time-dependent names and
+     * lore lines are refreshed on each opening. A new inventory is built if the title of the interface changed.
+     * <p>
      * If the player has no loaded quests (e.g., reload during session), errors are logged.
      *
      * @param player the player for whom the inventory is generated
@@ -175,22 +186,117 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
 
         if (QuestLoaderUtils.isTimeToRenew(player, activeQuests)) return getPlayerQuestsInterface(player);
 
-        final Map<AbstractQuest, Progression> questsMap = playerQuests.getQuests();
-
-        final Inventory playerQuestsInventoryIndividual = Bukkit.createInventory(new PlayerQuestsHolder(), size, TextFormatter.format(player, interfaceName));
-        playerQuestsInventoryIndividual.setContents(playerQuestsInventoryBase.getContents());
+        final String title = TextFormatter.format(player, interfaceName);
 
-        if (!papiItems.isEmpty()) {
-            applyPapiItems(player, playerQuests, playerQuestsInventoryIndividual);
+        final PlayerMenu cached = menus.get(playerQuests);
+        if (cached != null && Objects.equals(cached.getTitle(), title)) {
+            synchronized (cached) {
+                if (updateMenu(cached, player, playerQuests)) {
+                    return cached.getInventory();
+                }
+            }
         }
 
+        final PlayerMenu menu = buildMenu(player, playerQuests, title);
+        menus.put(playerQuests, menu);
+        return menu.getInventory();
+    }
+
+    /**
+     * Builds a new menu for the player, rendering every item.
+     *
+     * @param player       the player for whom the menu is built
+     * @param playerQuests the player's quest container
+     * @param title        the formatted title of the inventory
+     * @return the rendered menu
+     */
+    private PlayerMenu buildMenu(Player player, PlayerQuests playerQuests, String title) {
+        final long version = playerQuests.getVersion();
+        final int achievedQuests = playerQuests.getAchievedQuests();
+
+        final Inventory inventory = Bukkit.createInventory(new PlayerQuestsHolder(), size, title);
+        inventory.setContents(playerQuestsInventoryBase.getContents());
+
+        final Set<Integer> timeDependentPapiSlots = papiItems.isEmpty()
+                ? Collections.emptySet()
+                : applyPapiItems(player, playerQuests, inventory);
+
         /* load player head */
-        playerQuestsInventoryIndividual.setContents(playerHead.setPlayerHead(playerQuestsInventoryIndividual, player, size).getContents());
+        final boolean headResolved = playerHead.isResolved(player.getUniqueId());
+        playerHead.setPlayerHead(inventory, player, size);
 
         /* load quests */
-        applyQuestsItems(player, questsMap, playerQuests, playerQuestsInventoryIndividual);
+        final PlayerMenu.QuestItem[] questItems = applyQuestsItems(player, playerQuests, inventory);
+
+        final PlayerMenu menu = new PlayerMenu(inventory, title, questItems, timeDependentPapiSlots, playerHead.isTimeDependent());
+        menu.setHeadResolved(headResolved);
+        menu.markRendered(version, achievedQuests);
+        return menu;
+    }
+
+    /**
+     * Brings an existing menu up to date with the player quests.
+     * <p>
+     * Quest items are rendered again only if their progression changed, or if the number of achieved quests changed.
+     * Other quest items only get their time-dependent name and lore lines refreshed.
+     *
+     * @param menu         the menu to update
+     * @param player       the player owning the menu
+     * @param playerQuests the player's quest container
+     * @return false if the menu can no longer be updated and must be built again
+     */
+    private boolean updateMenu(PlayerMenu menu, Player player, PlayerQuests playerQuests) {
+        final Map<AbstractQuest, Progression> questsMap = playerQuests.getQuests();
+        final PlayerMenu.QuestItem[] questItems = menu.getQuestItems();
+        if (questItems.length != questsMap.size()) return false;
+
+        final long version = playerQuests.getVersion();
+        final int achievedQuests = playerQuests.getAchievedQuests();
+        final boolean changed = version != menu.getVersion();
+        final boolean achievedChanged = achievedQuests != menu.getAchievedQuests();
+        final Inventory inventory = menu.getInventory();
+
+        for (Map.Entry<Integer, ItemStack> entry : papiItems.entrySet()) {
+            final int slot = entry.getKey();
+            if (slot >= 0 && slot < size && (achievedChanged || menu.getTimeDependentPapiSlots().contains(slot))) {
+                renderPapiItem(slot, entry.getValue(), player, playerQuests, inventory);
+            }
+        }
+
+        final boolean headResolved = playerHead.isResolved(player.getUniqueId());
+        if (achievedChanged || menu.hasTimeDependentHead() || (headResolved && !menu.isHeadResolved())) {
+            playerHead.setPlayerHead(inventory, player, size);
+            menu.setHeadResolved(headResolved);
+        }
+
+        int position = 0;
+        for (Map.Entry<AbstractQuest, Progression> entry : questsMap.entrySet()) {
+            final AbstractQuest quest = entry.getKey();
+            final Progression progression = entry.getValue();
+            final PlayerMenu.QuestItem current = questItems[position];
+            if (current == null) return false;
+
+            if (changed && (achievedChanged || !current.isUpToDate(quest, progression))) {
+                /* slots are consumed by category, a quest of another category may not fit in the same slot */
+                if (!categorySlots.isEmpty() && !current.getQuest().getCategoryName().equalsIgnoreCase(quest.getCategoryName())) {
+                    return false;
+                }
+
+                final ItemStack itemStack = getQuestItem(quest, progression);
+                final ItemMeta itemMeta = itemStack.getItemMeta();
+                if (itemMeta == null) return false;
+
+                questItems[position] = renderQuestItem(itemStack, itemMeta, quest, progression, player, playerQuests, current.getSlots());
+                placeQuestItem(questItems[position], inventory);
+            } else if (current.isTimeDependent()) {
+                refreshQuestItem(current, progression, player, playerQuests, inventory);
+            }
+
+            position++;
+        }
 
-        return playerQuestsInventoryIndividual;
+        menu.markRendered(version, achievedQuests);
+        return true;
     }
 
     /**
@@ -209,6 +315,7 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
     private void loadVariables(ConfigurationSection interfaceConfig) {
 
         /* clear all lists, in case of reload */
+        menus.clear();
         slotQuests.clear();
         categorySlots.clear();
         fillItems.clear();
@@ -488,8 +595,7 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
         if (text == null) {
             return false;
         }
-        final Pattern pattern = Pattern.compile("%[^%\\s]+%");
-        return pattern.matcher(text).find();
+        return PLACEHOLDER_PATTERN.matcher(text).find();
     }
 
     /**
@@ -577,11 +683,15 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
      * </ul>
      *
      * @param player       target player
-     * @param questsMap    the player's quests with their progression
      * @param playerQuests the player's quest container
      * @param inventory    the target inventory
+     * @return the rendered quest items, by position in the player's quests
      */
-    private void applyQuestsItems(Player player, Map<AbstractQuest, Progression> questsMap, PlayerQuests playerQuests, Inventory inventory) {
+    private PlayerMenu.QuestItem[] applyQuestsItems(Player player, PlayerQuests playerQuests, Inventory inventory) {
+        final Map<AbstractQuest, Progression> questsMap = playerQuests.getQuests();
+        final PlayerMenu.QuestItem[] questItems = new PlayerMenu.QuestItem[questsMap.size()];
+
+        int position = 0;
         int i = 0;
         final Map<String, Integer> categoryUsage = new HashMap<>();
         for (Map.Entry<AbstractQuest, Progression> entry : questsMap.entrySet()) {
@@ -589,23 +699,87 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
             final Progression playerProgression = entry.getValue();
             final ItemStack itemStack = getQuestItem(quest, playerProgression);
             final ItemMeta itemMeta = itemStack.getItemMeta();
-            if (itemMeta == null) continue;
-
-            configureItemMeta(itemMeta, quest, playerProgression, player, playerQuests);
-            itemStack.setItemMeta(itemMeta);
-
-            final int menuItemAmount = quest.getMenuItemAmount();
-            if (menuItemAmount == 0) {
-                itemStack.setAmount(playerProgression.getRequiredAmount());
-            } else {
-                itemStack.setAmount(menuItemAmount);
+            if (itemMeta == null) {
+                position++;
+                continue;
             }
 
             final List<Integer> slots = resolveSlotsForQuest(quest.getCategoryName(), i, categoryUsage);
+            final PlayerMenu.QuestItem questItem = renderQuestItem(itemStack, itemMeta, quest, playerProgression, player, playerQuests, slots);
             placeItemInInventory(i, slots, itemStack, inventory);
 
+            questItems[position++] = questItem;
             i++;
         }
+
+        return questItems;
+    }
+
+    /**
+     * Renders a quest item, and records which parts of it depend on the time they are rendered at.
+     *
+     * @param itemStack    the cloned menu or achieved item of the quest
+     * @param itemMeta     the meta of the item, to configure
+     * @param quest        the quest
+     * @param progression  the player's progression on that quest
+     * @param player       the player
+     * @param playerQuests the quest container (for %achieved% etc.)
+     * @param slots        the slots the item is displayed in
+     * @return the rendered quest item
+     */
+    private PlayerMenu.QuestItem renderQuestItem(ItemStack itemStack, ItemMeta itemMeta, AbstractQuest quest, Progression progression,
+                                                 Player player, PlayerQuests playerQuests, @Nullable List<Integer> slots) {
+        final LoreContext context = new LoreContext(quest, progression, player, playerQuests, getQuestStatus(progression, player));
+        final List<PlayerMenu.DynamicLine> dynamicLines = new ArrayList<>();
+        final List<String> lore = generateLore(context, dynamicLines);
+
+        configureItemMeta(itemMeta, context, lore);
+        itemStack.setItemMeta(itemMeta);
+
+        final int menuItemAmount = quest.getMenuItemAmount();
+        if (menuItemAmount == 0) {
+            itemStack.setAmount(progression.getRequiredAmount());
+        } else {
+            itemStack.setAmount(menuItemAmount);
+        }
+
+        return new PlayerMenu.QuestItem(quest, progression, itemStack, slots, lore,
+                QuestPlaceholders.isTimeDependent(quest.getQuestName()),
+                dynamicLines.isEmpty() ? Collections.emptyList() : dynamicLines);
+    }
+
+    /**
+     * Renders again the time-dependent name and lore lines of a quest item, and places it back into the inventory.
+     *
+     * @param questItem    the rendered quest item
+     * @param progression  the player's progression on that quest
+     * @param player       the player
+     * @param playerQuests the quest container
+     * @param inventory    the inventory displaying the item
+     */
+    private void refreshQuestItem(PlayerMenu.QuestItem questItem, Progression progression, Player player, PlayerQuests playerQuests, Inventory inventory) {
+        final ItemStack itemStack = questItem.getItemStack();
+        final ItemMeta itemMeta = itemStack.getItemMeta();
+        if (itemMeta == null) return;
+
+        final List<PlayerMenu.DynamicLine> dynamicLines = questItem.getDynamicLines();
+        final String status = dynamicLines.isEmpty() ? null : getQuestStatus(progression, player);
+        final LoreContext context = new LoreContext(questItem.getQuest(), progression, player, playerQuests, status);
+
+        if (questItem.hasTimeDependentName()) {
+            itemMeta.setDisplayName(renderDisplayName(context));
+        }
+
+        if (!dynamicLines.isEmpty()) {
+            final List<String> lore = questItem.getLore();
+            for (PlayerMenu.DynamicLine line : dynamicLines) {
+                lore.set(line.index(), renderLoreLine(line.kind(), line.source(), context));
+            }
+            itemMeta.setLore(lore);
+        }
+
+        itemStack.setItemMeta(itemMeta);
+        placeQuestItem(questItem, inventory);
     }
 
     /**
@@ -629,21 +803,15 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
      *     <li>Hidden attributes</li>
      * </ul>
      *
-     * @param itemMeta     item meta to update
-     * @param quest        the quest
-     * @param progression  the player's progression on that quest
-     * @param player       the player
-     * @param playerQuests the quest container (for %achieved% etc.)
+     * @param itemMeta item meta to update
+     * @param context  the quest, progression and player the item is rendered for
+     * @param lore     the rendered lore
      */
-    private void configureItemMeta(ItemMeta itemMeta, AbstractQuest quest, Progression progression, Player player, PlayerQuests playerQuests) {
-        String displayName = TextFormatter.format(player, quest.getQuestName());
-        displayName = QuestPlaceholders.replaceQuestPlaceholders(displayName, player, quest, progression, playerQuests, null);
-        itemMeta.setDisplayName(displayName);
-
-        final List<String> lore = generateLore(quest, progression, player, playerQuests);
+    private void configureItemMeta(ItemMeta itemMeta, LoreContext context, List<String> lore) {
+        itemMeta.setDisplayName(renderDisplayName(context));
         itemMeta.setLore(lore);
 
-        if (progression.isAchieved() && isGlowingEnabled) {
+        if (context.progression().isAchieved() && isGlowingEnabled) {
             itemMeta.addEnchant(Enchantment.SILK_TOUCH, 1, false);
         }
 
@@ -651,6 +819,17 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
         itemMeta.addItemFlags(ItemFlag.values());
     }
 
+    /**
+     * Renders the display name of a quest item.
+     *
+     * @param context the quest, progression and player the item is rendered for
+     * @return the rendered display name
+     */
+    private String renderDisplayName(LoreContext context) {
+        final String displayName = QuestPlaceholders.replaceQuestPlaceholders(context.quest().getQuestName(), context.player(), context.quest(), context.progression(), context.playerQuests(), null);
+        return TextFormatter.format(context.player(), displayName);
+    }
+
     /**
      * Generates the lore for a quest item, inserting:
      * <ul>
@@ -663,42 +842,128 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
      *     <li>Manual completion hints when enabled</li>
      * </ul>
      *
+     * @param context      the quest, progression and player the lore is rendered for
+     * @param dynamicLines receives the lines that must be rendered again on each opening
      * @return the updated lore list
      */
-    private List<String> generateLore(AbstractQuest quest, Progression playerProgression, Player player, PlayerQuests playerQuests) {
-        final List<String> lore = new ArrayList<>(quest.getQuestDesc());
+    private List<String> generateLore(LoreContext context, List<PlayerMenu.DynamicLine> dynamicLines) {
+        final List<String> questDesc = context.quest().getQuestDesc();
+        final List<String> lore = new ArrayList<>(questDesc.size() + 3);
+        final boolean statusTimeDependent = isStatusTimeDependent();
 
-        final String status = getQuestStatus(playerProgression, player);
-
-        final ListIterator<String> it = lore.listIterator();
-        while (it.hasNext()) {
-            final String str = it.next();
-            String formatted = QuestPlaceholders.replaceQuestPlaceholders(str, player, quest, playerProgression, playerQuests, status);
-            formatted = TextFormatter.format(player, formatted);
-            it.set(formatted);
+        for (String str : questDesc) {
+            addLoreLine(lore, dynamicLines, PlayerMenu.LineKind.DESCRIPTION, str, context, statusTimeDependent);
         }
 
         if (!statusStr.isEmpty() && !isStatusDisabled) {
-            lore.add(TextFormatter.format(TextFormatter.format(player, statusStr)));
+            addLoreLine(lore, dynamicLines, PlayerMenu.LineKind.STATUS, statusStr, context, statusTimeDependent);
         }
 
-        if (playerProgression.isAchieved() && !achievedStr.isEmpty() && !isStatusDisabled) {
-            lore.add(TextFormatter.format(achievedStr));
+        if (context.progression().isAchieved() && !achievedStr.isEmpty() && !isStatusDisabled) {
+            addLoreLine(lore, dynamicLines, PlayerMenu.LineKind.ACHIEVED, achievedStr, context, statusTimeDependent);
         } else if (!progressStr.isEmpty() && !isStatusDisabled) {
-            final String formattedProgress = TextFormatter.format(player, progressStr);
-            lore.add(TextFormatter.format(QuestPlaceholders.replaceQuestPlaceholders(formattedProgress, player, quest, playerProgression, playerQuests, status)));
+            addLoreLine(lore, dynamicLines, PlayerMenu.LineKind.PROGRESS, progressStr, context, statusTimeDependent);
         }
 
-        if (shouldDisplayManualCompletionHint(playerProgression)) {
+        if (shouldDisplayManualCompletionHint(context.progression())) {
             final String hint = getCompleteGetTypeStr();
             if (hint != null && !hint.isEmpty()) {
-                lore.add(TextFormatter.format(player, hint));
+                addLoreLine(lore, dynamicLines, PlayerMenu.LineKind.HINT, hint, context, statusTimeDependent);
             }
         }
 
         return lore;
     }
 
+    /**
+     * Renders a lore line and appends it to the lore, recording it if it depends on the time it is rendered at.
+     */
+    private void addLoreLine(List<String> lore, List<PlayerMenu.DynamicLine> dynamicLines, PlayerMenu.LineKind kind,
+                             String source, LoreContext context, boolean statusTimeDependent) {
+        if (isLineTimeDependent(kind, source, statusTimeDependent)) {
+            dynamicLines.add(new PlayerMenu.DynamicLine(lore.size(), kind, source));
+        }
+        lore.add(renderLoreLine(kind, source, context));
+    }
+
+    /**
+     * Renders a lore line of a quest item.
+     *
+     * @param kind    origin of the line
+     * @param source  raw line from the configuration
+     * @param context the quest, progression and player the line is rendered for
+     * @return the rendered line
+     */
+    private String renderLoreLine(PlayerMenu.LineKind kind, String source, LoreContext context) {
+        final Player player = context.player();
+        return switch (kind) {
+            case DESCRIPTION -> TextFormatter.format(player, QuestPlaceholders.replaceQuestPlaceholders(
+                    source, player, context.quest(), context.progression(), context.playerQuests(), context.status()));
+            case STATUS -> TextFormatter.format(player, source);
+            case ACHIEVED -> TextFormatter.format(source);
+            case PROGRESS -> TextFormatter.format(player, QuestPlaceholders.replaceQuestPlaceholders(
+                    source, player, context.quest(), context.progression(), context.playerQuests(), context.status()));
+            case HINT -> TextFormatter.format(player, source);
+        };
+    }
+
+    /**
+     * Check if a lore line may render differently on the next opening, while the progression stays the same.
+     *
+     * @param kind                origin of the line
+     * @param source              raw line from the configuration
+     * @param statusTimeDependent whether the %status% placeholder depends on the time it is rendered at
+     * @return true if the line must be rendered again on each opening
+     */
+    private boolean isLineTimeDependent(PlayerMenu.LineKind kind, String source, boolean statusTimeDependent) {
+        return switch (kind) {
+            case ACHIEVED -> false;
+            case STATUS, HINT -> QuestPlaceholders.isTimeDependent(source);
+            case DESCRIPTION, PROGRESS -> QuestPlaceholders.isTimeDependent(source)
+                    || (statusTimeDependent && QuestPlaceholders.getTemplate(source).hasSlot(MessageTemplate.Slot.STATUS));
+        };
+    }
+
+    /**
+     * Check if the status displayed by the %status% placeholder depends on the time it is rendered at.
+     *
+     * @return true if one of the status messages is time-dependent
+     */
+    private boolean isStatusTimeDependent() {
+        return QuestPlaceholders.isTimeDependent(achievedStr)
+                || QuestPlaceholders.isTimeDependent(progressStr)
+                || QuestPlaceholders.isTimeDependent(completeGetTypeStr);
+    }
+
+    /**
+     * Everything a quest item is rendered from.
+     *
+     * @param quest        the quest
+     * @param progression  the player's progression on that quest
+     * @param player       the player
+     * @param playerQuests the quest container (for %achieved% etc.)
+     * @param status       the rendered status of the quest, or null if not needed
+     */
+    private record LoreContext(AbstractQuest quest, Progression progression, Player player, PlayerQuests playerQuests, @Nullable String status) {
+    }
+
+    /**
+     * Places a rendered quest item back into its slots, after an update.
+     *
+     * @param questItem the rendered quest item
+     * @param inventory the inventory displaying the item
+     */
+    private void placeQuestItem(PlayerMenu.QuestItem questItem, Inventory inventory) {
+        final List<Integer> slots = questItem.getSlots();
+        if (slots == null) return;
+
+        for (int slot : slots) {
+            if (slot > 0 && slot <= size) {
+                inventory.setItem(slot - 1, questItem.getItemStack());
+            }
+        }
+    }
+
     /**
      * Depending on the quest index, place the item in the inventory.
      *
@@ -769,34 +1034,79 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
      * @param player       the player for placeholder context
      * @param playerQuests the player's quest data
      * @param inventory    the inventory where items must be updated
+     * @return the slots of the items that must be rendered again on each opening
      */
-    private void applyPapiItems(Player player, PlayerQuests playerQuests, Inventory inventory) {
+    private Set<Integer> applyPapiItems(Player player, PlayerQuests playerQuests, Inventory inventory) {
+        final Set<Integer> timeDependentSlots = new HashSet<>();
         for (Map.Entry<Integer, ItemStack> entry : papiItems.entrySet()) {
-            final Integer slot = entry.getKey();
-            final ItemStack itemCopy = entry.getValue().clone();
+            final int slot = entry.getKey();
 
             if (slot < 0 || slot >= size) {
                 PluginLogger.error(ERROR_OCCURRED + "An item with placeholders defined for slot " + (slot + 1) + OUT_OF_BOUNDS);
                 continue;
             }
 
-            final ItemMeta meta = itemCopy.getItemMeta();
-            if (meta != null) {
-                meta.setDisplayName(TextFormatter.format(player, meta.getDisplayName()));
+            renderPapiItem(slot, entry.getValue(), player, playerQuests, inventory);
+            if (isTimeDependent(entry.getValue())) {
+                timeDependentSlots.add(slot);
+            }
+        }
+        return timeDependentSlots;
+    }
 
-                final List<String> lore = meta.getLore();
-                if (lore != null) {
-                    for (String str : lore) {
-                        final String formatted = TextFormatter.format(player, str);
-                        lore.set(lore.indexOf(str), QuestPlaceholders.replaceQuestPlaceholders(formatted, player, null, null, playerQuests, null));
-                    }
-                }
+    /**
+     * Renders an item with placeholders and places it into the inventory.
+     *
+     * @param slot         the slot of the item (0-based)
+     * @param item         the item, as loaded from the configuration
+     * @param player       the player for placeholder context
+     * @param playerQuests the player's quest data
+     * @param inventory    the inventory where the item must be placed
+     */
+    private void renderPapiItem(int slot, ItemStack item, Player player, PlayerQuests playerQuests, Inventory inventory) {
+        final ItemStack itemCopy = item.clone();
+        final ItemMeta meta = itemCopy.getItemMeta();
+        if (meta == null) return;
+
+        meta.setDisplayName(TextFormatter.format(player, meta.getDisplayName()));
+
+        final List<String> lore = meta.getLore();
+        if (lore != null) {
+            final ListIterator<String> it = lore.listIterator();
+            while (it.hasNext()) {
+                final String replaced = QuestPlaceholders.replaceQuestPlaceholders(it.next(), player, null, null, playerQuests, null);
+                it.set(TextFormatter.format(player, replaced));
+            }
+        }
+
+        meta.setLore(lore);
+        itemCopy.setItemMeta(meta);
+        inventory.setItem(slot, itemCopy);
+    }
+
+    /**
+     * Check if an item with placeholders may render differently on each opening.
+     *
+     * @param item the item, as loaded from the configuration
+     * @return true if its name or lore depends on the time it is rendered at
+     */
+    private boolean isTimeDependent(ItemStack item) {
+        final ItemMeta meta = item.getItemMeta();
+        if (meta == null) return false;
+
+        if (meta.hasDisplayName() && QuestPlaceholders.isTimeDependent(meta.getDisplayName())) {
+            return true;
+        }
 
-                meta.setLore(lore);
-                itemCopy.setItemMeta(meta);
-                inventory.setItem(slot, itemCopy);
+        final List<String> lore = meta.getLore();
+        if (lore == null) return false;
+
+        for (String line : lore) {
+            if (QuestPlaceholders.isTimeDependent(line)) {
+                return true;
             }
         }
+        return false;
     }
 
     /**
@@ -872,6 +1182,15 @@ public class PlayerQuestsInterface extends InterfaceItemGetter {
         return CompleteOnlyOnClick.isEnabled() && !progression.isAchieved() && progression.getAdvancement() >= progression.getRequiredAmount();
     }
 
+    /**
+     * Get the player head displayed in the interface.
+     *
+     * @return the player head.
+     */
+    public PlayerHead getPlayerHead() {
+        return playerHead;
+    }
+
     /**
      * Check if the item is used to fill the inventory.
      *
@@ -1,25 +1,47 @@
 package com.ordwen.odailyquests.commands.interfaces.playerinterface.items;
 
+import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.api.ODailyQuestsAPI;
 import com.ordwen.odailyquests.commands.interfaces.playerinterface.items.getters.InterfaceItemGetter;
 import com.ordwen.odailyquests.files.implementations.PlayerInterfaceFile;
 import com.ordwen.odailyquests.nms.NMSHandler;
 import com.ordwen.odailyquests.quests.player.PlayerQuests;
+import com.ordwen.odailyquests.configuration.essentials.Debugger;
 import com.ordwen.odailyquests.tools.TextFormatter;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import com.ordwen.odailyquests.tools.QuestPlaceholders;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.SkullMeta;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class PlayerHead extends InterfaceItemGetter {
+/**
+ * Player head displayed in the player quests interface.
+ * <p>
+ * Resolving the owner of a skull may require a profile lookup, so the owned skull meta of each online player is
+ * resolved asynchronously when they join, and cached. The last built head of each player is cached as well, and built
+ * again only when its rendered name or lore changes. Until the owner of a player has been resolved, the head is
+ * displayed without owner.
+ */
+public class PlayerHead extends InterfaceItemGetter implements Listener {
 
     private static final String SLOT_PARAMETER = "slot";
 
@@ -29,7 +51,24 @@ public class PlayerHead extends InterfaceItemGetter {
     private final Set<Integer> slots = new HashSet<>();
 
     private ItemStack head;
-    private SkullMeta meta;
+    private volatile SkullMeta meta;
+    private String nameSource;
+    private List<String> loreSource = Collections.emptyList();
+
+    /**
+     * A head built for a player, with the owned skull meta it has been built from.
+     *
+     * @param ownedMeta skull meta owned by the player, resolved asynchronously.
+     * @param name      rendered name of the built head, or null if none has been built yet.
+     * @param lore      rendered lore of the built head, or null if none has been built yet.
+     * @param item      last built head, or null if none has been built yet. Must never be modified.
+     */
+    private record CachedHead(SkullMeta ownedMeta, @Nullable String name, @Nullable List<String> lore, @Nullable ItemStack item) {
+    }
+
+    /* online players only, entries are removed on quit */
+    private final Map<UUID, CachedHead> heads = new ConcurrentHashMap<>();
+    private final Set<UUID> resolving = ConcurrentHashMap.newKeySet();
 
     public PlayerHead(PlayerInterfaceFile playerInterfaceFile) {
         this.playerInterfaceFile = playerInterfaceFile;
@@ -39,6 +78,8 @@ public class PlayerHead extends InterfaceItemGetter {
      * Init player head.
      */
     public void load() {
+        heads.clear();
+
         final ConfigurationSection section = playerInterfaceFile.getConfig().getConfigurationSection("player_interface.player_head");
         if (section == null) {
             PluginLogger.error("Player head section not found in the player interface file.");
@@ -49,6 +90,7 @@ public class PlayerHead extends InterfaceItemGetter {
         enabled = section.getBoolean(".enabled");
         if (!enabled) return;
 
+        head = null;
         if (section.isString(".material")) {
             final String material = section.getString(".material");
             if (material != null) {
@@ -60,39 +102,102 @@ public class PlayerHead extends InterfaceItemGetter {
             head = new ItemStack(Material.PLAYER_HEAD, 1);
         }
 
-        meta = (SkullMeta) head.getItemMeta();
-        if (meta == null) {
+        final SkullMeta skullMeta = (SkullMeta) head.getItemMeta();
+        if (skullMeta == null) {
+            meta = null;
             return;
         }
 
-        meta.setDisplayName(TextFormatter.format(section.getString(".item_name")));
-        meta.setLore(section.getStringList(".item_description"));
+        nameSource = TextFormatter.format(section.getString(".item_name"));
+        loreSource = section.getStringList(".item_description");
 
         if (section.isInt(".custom_model_data")) {
-            meta.setCustomModelData(section.getInt(".custom_model_data"));
+            skullMeta.setCustomModelData(section.getInt(".custom_model_data"));
         }
 
         if (section.isString(".item_model")) {
             final String itemModel = section.getString(".item_model");
             if (itemModel != null) {
-                NMSHandler.trySetItemModel(meta, itemModel);
+                NMSHandler.trySetItemModel(skullMeta, itemModel);
             }
         }
 
+        meta = skullMeta;
+
         slots.clear();
         if (section.isList(SLOT_PARAMETER)) {
             slots.addAll(section.getIntegerList(SLOT_PARAMETER));
         } else {
             slots.add(section.getInt(SLOT_PARAMETER) - 1);
         }
+
+        /* heads built from the previous configuration have been dropped, resolve them again */
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            resolveOwner(player);
+        }
+    }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        /* always resolved again on join, so that a skin change is taken into account */
+        heads.remove(event.getPlayer().getUniqueId());
+        resolveOwner(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        heads.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Resolve asynchronously the skull meta owned by a player, unless it is already being resolved.
+     *
+     * @param player the player to resolve.
+     */
+    private void resolveOwner(Player player) {
+        final SkullMeta base = this.meta;
+        if (!enabled || base == null) return;
+
+        final UUID uuid = player.getUniqueId();
+        if (!resolving.add(uuid)) return;
+
+        ODailyQuests.morePaperLib.scheduling().asyncScheduler().run(() -> {
+            try {
+                final SkullMeta owned = base.clone();
+                owned.setOwningPlayer(player);
+
+                /* discard the result if the configuration has been reloaded or the player left meanwhile */
+                if (base == this.meta && player.isOnline()) {
+                    heads.put(uuid, new CachedHead(owned, null, null, null));
+
+                    /* the player may have left between the check and the put, after the quit listener ran */
+                    if (!player.isOnline()) heads.remove(uuid);
+                }
+            } catch (Exception e) {
+                Debugger.write(() -> "PlayerHead: unable to resolve the head of " + player.getName() + ": " + e.getMessage());
+            } finally {
+                resolving.remove(uuid);
+            }
+        });
+    }
+
+    /**
+     * Check if the owner of the head of a player has been resolved.
+     *
+     * @param uuid UUID of the player.
+     * @return true if the head of the player is displayed with its owner, or if the head is disabled.
+     */
+    public boolean isResolved(UUID uuid) {
+        return !enabled || meta == null || heads.containsKey(uuid);
     }
 
     public Inventory setPlayerHead(Inventory inventory, Player player, int size) {
-        if (!enabled) return inventory;
+        if (!enabled || meta == null) return inventory;
 
+        final ItemStack playerHead = getPlayerHead(player);
         for (int slot : slots) {
             if (slot >= 0 && slot <= size) {
-                inventory.setItem(slot, getPlayerHead(player));
+                inventory.setItem(slot, playerHead);
             } else {
                 PluginLogger.error("An error occurred when loading the player interface.");
                 PluginLogger.error("The slot defined for the player head is out of bounds.");
@@ -102,26 +207,80 @@ public class PlayerHead extends InterfaceItemGetter {
         return inventory;
     }
 
+    /**
+     * Get the head of a player, never blocking on the resolution of its owner.
+     * <p>
+     * The returned item may be shared with later calls and must not be modified. Placing it into an inventory copies it.
+     *
+     * @param player the player.
+     * @return the head of the player.
+     */
     public ItemStack getPlayerHead(Player player) {
-        final SkullMeta clone = this.meta.clone();
-        clone.setDisplayName(TextFormatter.format(player, clone.getDisplayName()
-                .replace("%player_name%", player.getName())));
+        final String name = nameSource == null ? null : TextFormatter.format(player, nameSource.replace("%player_name%", player.getName()));
+        final List<String> lore = renderLore(player);
 
-        clone.setOwningPlayer(player);
-        final List<String> lore = clone.getLore();
-        if (lore == null) return head;
-
-        for (String string : lore) {
-            int index = lore.indexOf(string);
-            string = TextFormatter.format(player, string);
+        final UUID uuid = player.getUniqueId();
+        final CachedHead cached = heads.get(uuid);
+        if (cached != null && cached.item() != null && Objects.equals(name, cached.name()) && lore.equals(cached.lore())) {
+            return cached.item();
+        }
 
-            final PlayerQuests playerQuests = ODailyQuestsAPI.getPlayerQuests(player.getName());
-            lore.set(index, QuestPlaceholders.replaceQuestPlaceholders(TextFormatter.format(string), player, null, null, playerQuests, null));
+        final SkullMeta owned = cached != null ? cached.ownedMeta() : null;
+        if (owned == null) {
+            resolveOwner(player);
         }
 
+        final SkullMeta clone = (owned != null ? owned : meta).clone();
+        if (name != null) {
+            clone.setDisplayName(name);
+        }
         clone.setLore(lore);
-        head.setItemMeta(clone);
-        return head;
+
+        final ItemStack item = head.clone();
+        item.setItemMeta(clone);
+
+        if (owned != null) {
+            heads.replace(uuid, cached, new CachedHead(owned, name, lore, item));
+        }
+        return item;
+    }
+
+    /**
+     * Render the lore of the head for a player.
+     *
+     * @param player the player.
+     * @return the rendered lore.
+     */
+    private List<String> renderLore(Player player) {
+        if (loreSource.isEmpty()) return Collections.emptyList();
+
+        final PlayerQuests playerQuests = ODailyQuestsAPI.getPlayerQuests(player.getName());
+        final List<String> lore = new ArrayList<>(loreSource.size());
+        for (String line : loreSource) {
+            final String replaced = QuestPlaceholders.replaceQuestPlaceholders(line, player, null, null, playerQuests, null);
+            lore.add(TextFormatter.format(player, replaced));
+        }
+        return lore;
+    }
+
+    /**
+     * Check if the head may render differently each time the interface is opened.
+     *
+     * @return true if the name or the lore of the head depends on the time it is rendered at.
+     */
+    public boolean isTimeDependent() {
+        if (!enabled || meta == null) return false;
+
+        if (nameSource != null && QuestPlaceholders.isTimeDependent(nameSource.replace("%player_name%", ""))) {
+            return true;
+        }
+
+        for (String line : loreSource) {
+            if (QuestPlaceholders.isTimeDependent(line)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean isEnabled() {
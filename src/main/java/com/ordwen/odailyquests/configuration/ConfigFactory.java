@@ -36,7 +36,14 @@ public class ConfigFactory {
         configs.put(CustomTypes.class, new CustomTypes(configurationFile));
         configs.put(Database.class, new Database(configurationFile));
         configs.put(PlayerDataLoadDelay.class, new PlayerDataLoadDelay(configurationFile));
+        configs.put(Autosave.class, new Autosave(configurationFile));
+
+        // stop the writer thread of the previous debugger, if any
+        if (configs.get(Debugger.class) instanceof Debugger previousDebugger) {
+            previousDebugger.shutdown();
+        }
         configs.put(Debugger.class, new Debugger(configurationFile));
+
         configs.put(JoinMessageDelay.class, new JoinMessageDelay(configurationFile));
         configs.put(ReloadMessage.class, new ReloadMessage(configurationFile));
         configs.put(Logs.class, new Logs(configurationFile));
@@ -48,6 +55,7 @@ public class ConfigFactory {
         configs.put(Synchronization.class, new Synchronization(configurationFile));
         configs.put(RenewInterval.class, new RenewInterval(configurationFile));
         configs.put(RenewTime.class, new RenewTime(configurationFile));
+        configs.put(RenewTickBudget.class, new RenewTickBudget(configurationFile));
         configs.put(CategoryGroupsLoader.class, new CategoryGroupsLoader(configurationFile));
         configs.put(CheckForUpdate.class, new CheckForUpdate(configurationFile));
 
@@ -94,6 +102,17 @@ public class ConfigFactory {
         }
     }
 
+    /**
+     * Load and register a single configuration, to run parts of the plugin without a server (benchmarks).
+     *
+     * @param clazz  class the configuration is registered as.
+     * @param config configuration to load.
+     */
+    static <T extends IConfigurable> void register(Class<T> clazz, T config) {
+        config.load();
+        configs.put(clazz, config);
+    }
+
     public static <T extends IConfigurable> T getConfig(Class<T> clazz) {
         return clazz.cast(configs.get(clazz));
     }
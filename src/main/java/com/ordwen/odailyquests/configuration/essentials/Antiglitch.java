@@ -1,6 +1,5 @@
 package com.ordwen.odailyquests.configuration.essentials;
 
-import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.configuration.ConfigFactory;
 import com.ordwen.odailyquests.configuration.IConfigurable;
 import com.ordwen.odailyquests.files.implementations.ConfigurationFile;
@@ -8,9 +7,11 @@ import org.bukkit.NamespacedKey;
 
 public class Antiglitch implements IConfigurable {
 
-    public static final NamespacedKey BROKEN_KEY = new NamespacedKey(ODailyQuests.INSTANCE, "odq_broken");
-    public static final NamespacedKey PLACED_KEY = new NamespacedKey(ODailyQuests.INSTANCE, "odq_placed");
-    public static final NamespacedKey DROPPED_KEY = new NamespacedKey(ODailyQuests.INSTANCE, "odq_dropped");
+    /* keys in the namespace of the plugin, usable before the plugin is enabled */
+    public static final NamespacedKey BROKEN_KEY = NamespacedKey.fromString("odailyquests:odq_broken");
+    public static final NamespacedKey PLACED_KEY = NamespacedKey.fromString("odailyquests:odq_placed");
+    public static final NamespacedKey PLACED_BLOCKS_KEY = NamespacedKey.fromString("odailyquests:odq_placed_blocks");
+    public static final NamespacedKey DROPPED_KEY = NamespacedKey.fromString("odailyquests:odq_dropped");
 
     private final ConfigurationFile configurationFile;
 
@@ -0,0 +1,62 @@
+package com.ordwen.odailyquests.configuration.essentials;
+
+import com.ordwen.odailyquests.configuration.ConfigFactory;
+import com.ordwen.odailyquests.configuration.IConfigurable;
+import com.ordwen.odailyquests.files.implementations.ConfigurationFile;
+import com.ordwen.odailyquests.tools.PluginLogger;
+import org.bukkit.configuration.ConfigurationSection;
+
+public class Autosave implements IConfigurable {
+
+    private final ConfigurationFile configurationFile;
+
+    private boolean enabled;
+    private long intervalTicks;
+    private int playersPerSecond;
+
+    public Autosave(ConfigurationFile configurationFile) {
+        this.configurationFile = configurationFile;
+    }
+
+    @Override
+    public void load() {
+        final ConfigurationSection section = configurationFile.getConfig().getConfigurationSection("autosave");
+        if (section == null) {
+            enabled = true;
+            intervalTicks = 5 * 60 * 20L;
+            playersPerSecond = 20;
+            return;
+        }
+
+        enabled = section.getBoolean("enabled", true);
+
+        double minutes = section.getDouble("interval", 5.0);
+        if (minutes <= 0) {
+            PluginLogger.warn("Autosave interval must be greater than 0. Using default value (5 minutes).");
+            minutes = 5.0;
+        }
+        intervalTicks = Math.max(20L, Math.round(minutes * 60 * 20));
+
+        playersPerSecond = section.getInt("players_per_second", 20);
+        if (playersPerSecond < 1) {
+            PluginLogger.warn("Autosave players_per_second must be at least 1. Using default value (20).");
+            playersPerSecond = 20;
+        }
+    }
+
+    private static Autosave getInstance() {
+        return ConfigFactory.getConfig(Autosave.class);
+    }
+
+    public static boolean isEnabled() {
+        return getInstance().enabled;
+    }
+
+    public static long getIntervalTicks() {
+        return getInstance().intervalTicks;
+    }
+
+    public static int getPlayersPerSecond() {
+        return getInstance().playersPerSecond;
+    }
+}
@@ -6,17 +6,45 @@ import com.ordwen.odailyquests.configuration.IConfigurable;
 import com.ordwen.odailyquests.files.implementations.ConfigurationFile;
 import com.ordwen.odailyquests.tools.PluginLogger;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Date;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+/**
+ * Writes debug messages to the debug.yml file.
+ * <p>
+ * Messages are pushed into a bounded in-memory buffer and written by a single background thread,
+ * so callers never block on disk I/O. When the writer can't keep up, the oldest pending lines are dropped.
+ * Prefer {@link #write(Supplier)} for messages that need to be built, so nothing is allocated when debug is disabled.
+ */
 public class Debugger implements IConfigurable {
 
+    /* maximum amount of pending lines before the oldest ones are dropped */
+    private static final int BUFFER_CAPACITY = 8192;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private record Entry(long timestamp, String message) {}
+
     private final ConfigurationFile configurationFile;
-    private boolean debugMode;
+    private volatile boolean debugMode;
     private File debugFile;
 
+    private final BlockingQueue<Entry> buffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+    private final AtomicLong droppedLines = new AtomicLong();
+    private Thread writerThread;
+
     public Debugger(ConfigurationFile configurationFile) {
         this.configurationFile = configurationFile;
     }
@@ -26,6 +54,7 @@ public class Debugger implements IConfigurable {
         debugMode = configurationFile.getConfig().getBoolean("debug");
         if (debugMode) {
             loadDebugFile();
+            startWriter();
             PluginLogger.warn("Debug mode is enabled. This may cause performance issues.");
         }
     }
@@ -39,26 +68,119 @@ public class Debugger implements IConfigurable {
         }
     }
 
-    public void writeInternal(String debugMessage) {
-        if (debugMode) {
-            final Date date = new Date();
-
-            try (FileWriter writer = new FileWriter(debugFile, true)) {
-                writer.write("[" + date + "] " + debugMessage);
-                writer.write(System.lineSeparator());
-            } catch (IOException e) {
-                PluginLogger.error("An error happened on the write of the debug file.");
-                PluginLogger.error("If the problem persists, contact the developer.");
-                PluginLogger.error(e.getMessage());
+    /**
+     * Starts the background thread in charge of writing buffered lines to the debug file.
+     */
+    private void startWriter() {
+        writerThread = new Thread(this::drain, "ODailyQuests-Debugger");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Writer thread loop: waits for pending lines and writes them in batches, until the debugger is shut down
+     * and the buffer is empty.
+     */
+    private void drain() {
+        try (BufferedWriter writer = Files.newBufferedWriter(debugFile.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+            while (debugMode || !buffer.isEmpty()) {
+                final Entry first = buffer.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                writeDropped(writer);
+                writeEntry(writer, first);
+
+                Entry next;
+                while ((next = buffer.poll()) != null) {
+                    writeEntry(writer, next);
+                }
+                writer.flush();
             }
+        } catch (IOException e) {
+            PluginLogger.error("An error happened on the write of the debug file.");
+            PluginLogger.error("If the problem persists, contact the developer.");
+            PluginLogger.error(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeEntry(BufferedWriter writer, Entry entry) throws IOException {
+        writer.write('[');
+        writer.write(DATE_FORMAT.format(Instant.ofEpochMilli(entry.timestamp())));
+        writer.write("] ");
+        writer.write(entry.message());
+        writer.newLine();
+    }
+
+    private void writeDropped(BufferedWriter writer) throws IOException {
+        final long dropped = droppedLines.getAndSet(0);
+        if (dropped > 0) {
+            writeEntry(writer, new Entry(System.currentTimeMillis(), "[DEBUGGER] " + dropped + " lines dropped, the buffer was full."));
         }
     }
 
+    public void writeInternal(String debugMessage) {
+        if (!debugMode) return;
+
+        final Entry entry = new Entry(System.currentTimeMillis(), debugMessage);
+        while (!buffer.offer(entry)) {
+            if (buffer.poll() != null) droppedLines.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting new lines and waits briefly for the writer thread to flush the pending ones.
+     */
+    public void shutdown() {
+        debugMode = false;
+        if (writerThread == null) return;
+
+        try {
+            writerThread.join(2000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+    }
+
     private static Debugger getInstance() {
         return ConfigFactory.getConfig(Debugger.class);
     }
 
+    /**
+     * Check if debug mode is enabled. Use it to guard expensive debug-only computations.
+     *
+     * @return true if debug messages are written
+     */
+    public static boolean isEnabled() {
+        final Debugger debugger = getInstance();
+        return debugger != null && debugger.debugMode;
+    }
+
     public static void write(String debugMessage) {
         getInstance().writeInternal(debugMessage);
     }
+
+    /**
+     * Write a lazily built debug message. The supplier is only called when debug mode is enabled.
+     *
+     * @param debugMessage supplier of the message to write
+     */
+    public static void write(Supplier<String> debugMessage) {
+        final Debugger debugger = getInstance();
+        if (debugger.debugMode) {
+            debugger.writeInternal(debugMessage.get());
+        }
+    }
+
+    /**
+     * Flush pending debug lines and stop the writer thread, if any.
+     */
+    public static void close() {
+        final Debugger debugger = getInstance();
+        if (debugger != null) debugger.shutdown();
+    }
 }
@@ -0,0 +1,35 @@
+package com.ordwen.odailyquests.configuration.essentials;
+
+import com.ordwen.odailyquests.configuration.ConfigFactory;
+import com.ordwen.odailyquests.configuration.IConfigurable;
+import com.ordwen.odailyquests.files.implementations.ConfigurationFile;
+import com.ordwen.odailyquests.tools.PluginLogger;
+
+public class RenewTickBudget implements IConfigurable {
+
+    private final ConfigurationFile configurationFile;
+
+    private long budgetNanos;
+
+    public RenewTickBudget(ConfigurationFile configurationFile) {
+        this.configurationFile = configurationFile;
+    }
+
+    @Override
+    public void load() {
+        double millis = configurationFile.getConfig().getDouble("renew_tick_budget", 5.0);
+        if (millis <= 0) {
+            PluginLogger.warn("renew_tick_budget must be greater than 0. Using default value (5).");
+            millis = 5.0;
+        }
+        budgetNanos = Math.round(millis * 1_000_000);
+    }
+
+    private static RenewTickBudget getInstance() {
+        return ConfigFactory.getConfig(RenewTickBudget.class);
+    }
+
+    public static long getBudgetNanos() {
+        return getInstance().budgetNanos;
+    }
+}
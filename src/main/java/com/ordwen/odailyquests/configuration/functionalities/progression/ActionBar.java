@@ -2,6 +2,8 @@ package com.ordwen.odailyquests.configuration.functionalities.progression;
 
 import com.ordwen.odailyquests.configuration.ConfigFactory;
 import com.ordwen.odailyquests.configuration.IConfigurable;
+import com.ordwen.odailyquests.tools.MessageTemplate;
+import com.ordwen.odailyquests.tools.QuestPlaceholders;
 import com.ordwen.odailyquests.tools.TextFormatter;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import net.md_5.bungee.api.ChatMessageType;
@@ -20,7 +22,7 @@ public class ActionBar implements IConfigurable {
     }
 
     private boolean isEnabled;
-    private String text;
+    private MessageTemplate text;
 
     @Override
     public void load() {
@@ -33,16 +35,14 @@ public class ActionBar implements IConfigurable {
         }
 
         isEnabled = section.getBoolean("enabled");
-        if (isEnabled) text = TextFormatter.format(section.getString("text"));
+        if (isEnabled) text = MessageTemplate.compile(TextFormatter.format(section.getString("text")));
     }
 
     public void sendActionbarInternal(Player player, String questName) {
         if (isEnabled) {
             final String parsedQuestName = TextFormatter.format(player, questName);
 
-            final String playerBar = TextFormatter.format(player, this.text
-                    .replace("%player%", player.getDisplayName())
-                    .replace("%questName%", parsedQuestName));
+            final String playerBar = TextFormatter.format(player, QuestPlaceholders.replacePlayerPlaceholders(this.text, player, parsedQuestName));
 
             final String toSend = TextFormatter.format(playerBar);
             player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(toSend));
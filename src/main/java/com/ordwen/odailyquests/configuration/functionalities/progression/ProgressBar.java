@@ -15,6 +15,9 @@ public class ProgressBar implements IConfigurable {
     private String remainingColor;
     private int amountOfSymbols;
 
+    /* all possible bars, indexed by the amount of completed symbols */
+    private String[] bars;
+
     private final ConfigurationFile configurationFile;
 
     public ProgressBar(ConfigurationFile configurationFile) {
@@ -37,13 +40,37 @@ public class ProgressBar implements IConfigurable {
             remainingColor = ChatColor.GRAY.toString();
             amountOfSymbols = 20;
 
+            buildBars();
             return;
         }
 
         symbol = section.getString("symbol", "|");
         completedColor = TextFormatter.format(section.getString("completed_color", ChatColor.GREEN.toString()));
         remainingColor = TextFormatter.format(section.getString("remaining_color", ChatColor.GRAY.toString()));
-        amountOfSymbols = section.getInt("amount_of_symbols", 20);
+        amountOfSymbols = Math.max(0, section.getInt("amount_of_symbols", 20));
+
+        buildBars();
+    }
+
+    /**
+     * Precompute the {@code amountOfSymbols + 1} possible bars.
+     */
+    private void buildBars() {
+        bars = new String[amountOfSymbols + 1];
+
+        for (int completed = 0; completed <= amountOfSymbols; completed++) {
+            final StringBuilder builder = new StringBuilder();
+
+            for (int i = 0; i < completed; i++) {
+                builder.append(completedColor).append(symbol);
+            }
+
+            for (int i = completed; i < amountOfSymbols; i++) {
+                builder.append(remainingColor).append(symbol);
+            }
+
+            bars[completed] = builder.toString();
+        }
     }
 
     /**
@@ -54,20 +81,10 @@ public class ProgressBar implements IConfigurable {
      * @return progress bar.
      */
     public String getProgressBarInternal(int amount, int required) {
-        final StringBuilder builder = new StringBuilder();
-
-        final int amountOfCompleted = amount * amountOfSymbols / required;
-        final int amountOfRemaining = amountOfSymbols - amountOfCompleted;
-
-        for (int i = 0; i < amountOfCompleted; i++) {
-            builder.append(completedColor).append(symbol);
-        }
-
-        for (int i = 0; i < amountOfRemaining; i++) {
-            builder.append(remainingColor).append(symbol);
-        }
+        if (required <= 0) return bars[amountOfSymbols];
 
-        return builder.toString();
+        final long amountOfCompleted = (long) amount * amountOfSymbols / required;
+        return bars[(int) Math.max(0L, Math.min(amountOfSymbols, amountOfCompleted))];
     }
 
     /**
@@ -5,6 +5,9 @@ import com.ordwen.odailyquests.configuration.ConfigFactory;
 import com.ordwen.odailyquests.configuration.IConfigurable;
 import com.ordwen.odailyquests.enums.ProgressionMessageType;
 import com.ordwen.odailyquests.files.implementations.ConfigurationFile;
+import com.ordwen.odailyquests.quests.player.progression.Progression;
+import com.ordwen.odailyquests.quests.types.AbstractQuest;
+import com.ordwen.odailyquests.tools.MessageTemplate;
 import com.ordwen.odailyquests.tools.QuestPlaceholders;
 import com.ordwen.odailyquests.tools.TextFormatter;
 import com.ordwen.odailyquests.tools.PluginLogger;
@@ -16,11 +19,17 @@ import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 public class ProgressionMessage implements IConfigurable {
 
+    private static final long DEFAULT_COALESCE_WINDOW = 250L;
+    private static final long MILLIS_PER_TICK = 50L;
+
     private final ConfigurationFile configurationFile;
 
     public ProgressionMessage(ConfigurationFile configurationFile) {
@@ -29,13 +38,28 @@ public class ProgressionMessage implements IConfigurable {
 
     private boolean isEnabled;
     private String message;
+    private MessageTemplate template;
     private ProgressionMessageType progressionMessageType;
 
     private BarColor barColor;
     private BarStyle barStyle;
 
+    /* progress updates of a quest within this window are merged, in milliseconds */
+    private long coalesceWindow;
+
     private final Map<Player, BossBar> currentBossBars = new HashMap<>();
 
+    /**
+     * Last progress update sent for a quest of a player, and the update waiting to be sent, if any.
+     */
+    private static final class QuestUpdates {
+        private long lastSent;
+        private AbstractQuest pending;
+    }
+
+    /* by progression identity, progressions are replaced when the quests of a player are renewed */
+    private final Map<Player, Map<Progression, QuestUpdates>> questUpdates = Collections.synchronizedMap(new WeakHashMap<>());
+
     @Override
     public void load() {
         isEnabled = configurationFile.getConfig().getBoolean("progression_message.enabled");
@@ -45,11 +69,14 @@ public class ProgressionMessage implements IConfigurable {
         }
 
         message = configurationFile.getConfig().getString("progression_message.text");
+        coalesceWindow = Math.max(0L, configurationFile.getConfig().getLong("progression_message.coalesce_window", DEFAULT_COALESCE_WINDOW));
 
         if (message == null) {
             PluginLogger.error("Progression message is null, disabling progression message.");
             PluginLogger.error("Please set a valid message in the configuration file (progression_message.text).");
             isEnabled = false;
+        } else {
+            template = MessageTemplate.compile(message);
         }
 
         final String type = configurationFile.getConfig().getString("progression_message.type");
@@ -100,6 +127,78 @@ public class ProgressionMessage implements IConfigurable {
         }
     }
 
+    /**
+     * Send the progression message of a quest, merging it with the other updates of the quest sent within the
+     * coalesce window. The first update is sent immediately, the following ones are merged and only the latest state
+     * of the quest is sent at the end of the window.
+     *
+     * @param player      to send.
+     * @param quest       quest that progressed.
+     * @param progression progression of the quest.
+     */
+    public void sendProgressionMessageInternal(Player player, AbstractQuest quest, Progression progression) {
+        if (!isEnabled) return;
+
+        if (coalesceWindow > 0) {
+            final long now = System.currentTimeMillis();
+            final Map<Progression, QuestUpdates> updates = questUpdates.computeIfAbsent(player, p -> new IdentityHashMap<>());
+            synchronized (updates) {
+                updates.values().removeIf(u -> u.pending == null && now - u.lastSent >= coalesceWindow);
+
+                final QuestUpdates update = updates.get(progression);
+                if (update != null) {
+                    if (update.pending == null) {
+                        scheduleFlush(player, progression, update.lastSent + coalesceWindow - now);
+                    }
+                    update.pending = quest;
+                    return;
+                }
+
+                final QuestUpdates sent = new QuestUpdates();
+                sent.lastSent = now;
+                updates.put(progression, sent);
+            }
+        }
+
+        sendQuestProgression(player, quest, progression);
+    }
+
+    private void scheduleFlush(Player player, Progression progression, long delay) {
+        final long ticks = Math.max(1L, (delay + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK);
+        ODailyQuests.morePaperLib.scheduling().entitySpecificScheduler(player).runDelayed(() -> flush(player, progression), null, ticks);
+    }
+
+    /**
+     * Send the latest progress update of a quest waiting for the end of its coalesce window.
+     *
+     * @param player      to send.
+     * @param progression progression of the quest.
+     */
+    private void flush(Player player, Progression progression) {
+        final Map<Progression, QuestUpdates> updates = questUpdates.get(player);
+        if (updates == null) return;
+
+        final AbstractQuest quest;
+        synchronized (updates) {
+            final QuestUpdates update = updates.get(progression);
+            if (update == null || update.pending == null) return;
+
+            quest = update.pending;
+            update.pending = null;
+            update.lastSent = System.currentTimeMillis();
+        }
+
+        /* completed meanwhile, the completion is notified on its own */
+        if (!player.isOnline() || progression.getAdvancement() >= progression.getRequiredAmount()) return;
+
+        sendQuestProgression(player, quest, progression);
+    }
+
+    private void sendQuestProgression(Player player, AbstractQuest quest, Progression progression) {
+        final String questName = QuestPlaceholders.replaceQuestPlaceholders(quest.getQuestName(), player, quest, progression, null, null);
+        sendProgressionMessageInternal(player, questName, progression.getAdvancement(), progression.getRequiredAmount(), progression.getRewardAmount());
+    }
+
     /**
      * Send progression message.
      *
@@ -113,11 +212,13 @@ public class ProgressionMessage implements IConfigurable {
         if (isEnabled) {
             final String parsedQuestName = TextFormatter.format(player, questName);
 
-            final String parsedMessage = message
-                    .replace("%player%", player.getDisplayName())
-                    .replace("%questName%", parsedQuestName);
+            final String parsedMessage = template.render(slot -> switch (slot) {
+                case PLAYER -> player.getDisplayName();
+                case QUEST_NAME -> parsedQuestName;
+                default -> QuestPlaceholders.resolveProgressSlot(slot, progression, required, rewardAmount);
+            });
 
-            final String toSend = TextFormatter.format(player, QuestPlaceholders.replaceProgressPlaceholders(parsedMessage, progression, required, rewardAmount));
+            final String toSend = TextFormatter.format(player, parsedMessage);
 
             switch (progressionMessageType) {
                 case ACTIONBAR ->
@@ -152,6 +253,7 @@ public class ProgressionMessage implements IConfigurable {
     public void cleanup() {
         currentBossBars.forEach((p, bar) -> bar.removePlayer(p));
         currentBossBars.clear();
+        questUpdates.clear();
     }
 
     private static ProgressionMessage getInstance() {
@@ -161,4 +263,8 @@ public class ProgressionMessage implements IConfigurable {
     public static void sendProgressionMessage(Player player, String questName, int progression, int required, double rewardAmount) {
         getInstance().sendProgressionMessageInternal(player, questName, progression, required, rewardAmount);
     }
+
+    public static void sendProgressionMessage(Player player, AbstractQuest quest, Progression progression) {
+        getInstance().sendProgressionMessageInternal(player, quest, progression);
+    }
 }
@@ -3,6 +3,8 @@ package com.ordwen.odailyquests.configuration.functionalities.progression;
 import com.ordwen.odailyquests.configuration.ConfigFactory;
 import com.ordwen.odailyquests.configuration.IConfigurable;
 import com.ordwen.odailyquests.files.implementations.ConfigurationFile;
+import com.ordwen.odailyquests.tools.MessageTemplate;
+import com.ordwen.odailyquests.tools.QuestPlaceholders;
 import com.ordwen.odailyquests.tools.TextFormatter;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import org.bukkit.configuration.ConfigurationSection;
@@ -20,8 +22,8 @@ public class Title implements IConfigurable {
     private int fadeIn;
     private int fadeOut;
     private int stay;
-    private String mainTitle;
-    private String subTitle;
+    private MessageTemplate mainTitle;
+    private MessageTemplate subTitle;
 
     @Override
     public void load() {
@@ -39,8 +41,8 @@ public class Title implements IConfigurable {
             fadeIn = section.getInt("fadeIn");
             stay = section.getInt("stay");
             fadeOut = section.getInt("fadeOut");
-            mainTitle = TextFormatter.format(section.getString("text"));
-            subTitle = TextFormatter.format(section.getString("subtitle"));
+            mainTitle = MessageTemplate.compile(TextFormatter.format(section.getString("text")));
+            subTitle = MessageTemplate.compile(TextFormatter.format(section.getString("subtitle")));
 
             PluginLogger.fine("Title successfully loaded.");
         } else PluginLogger.fine("Title is disabled.");
@@ -50,13 +52,8 @@ public class Title implements IConfigurable {
         if (isEnabled) {
             final String parsedQuestName = TextFormatter.format(player, questName);
 
-            final String playerMainTitle = TextFormatter.format(player, this.mainTitle
-                    .replace("%player%", player.getDisplayName())
-                    .replace("%questName%", parsedQuestName));
-
-            final String playerSubTitle = TextFormatter.format(player, this.subTitle
-                    .replace("%player%", player.getDisplayName())
-                    .replace("%questName%", parsedQuestName));
+            final String playerMainTitle = TextFormatter.format(player, QuestPlaceholders.replacePlayerPlaceholders(this.mainTitle, player, parsedQuestName));
+            final String playerSubTitle = TextFormatter.format(player, QuestPlaceholders.replacePlayerPlaceholders(this.subTitle, player, parsedQuestName));
 
             player.sendTitle(playerMainTitle, playerSubTitle, fadeIn, stay, fadeOut);
         }
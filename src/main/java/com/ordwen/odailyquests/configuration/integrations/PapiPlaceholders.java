@@ -10,6 +10,7 @@ public class PapiPlaceholders implements IConfigurable {
 
     private static final String DEFAULT_STATUS_NOT_ACHIEVED = ChatColor.RED + "✗";
     private static final String DEFAULT_STATUS_ACHIEVED = ChatColor.GREEN + "✓";
+    private static final long DEFAULT_CACHE_TTL = 1000L;
 
     private final ConfigurationFile configurationFile;
 
@@ -19,6 +20,7 @@ public class PapiPlaceholders implements IConfigurable {
 
     private String statusNotAchieved;
     private String statusAchieved;
+    private long cacheTtl;
 
     @Override
     public void load() {
@@ -27,11 +29,13 @@ public class PapiPlaceholders implements IConfigurable {
         if (section == null) {
             statusNotAchieved = DEFAULT_STATUS_NOT_ACHIEVED;
             statusAchieved = DEFAULT_STATUS_ACHIEVED;
+            cacheTtl = DEFAULT_CACHE_TTL;
             return;
         }
 
         statusNotAchieved = section.getString("status_not_achieved", DEFAULT_STATUS_NOT_ACHIEVED);
         statusAchieved = section.getString("status_achieved", DEFAULT_STATUS_ACHIEVED);
+        cacheTtl = Math.max(0L, section.getLong("cache_ttl", DEFAULT_CACHE_TTL));
     }
 
     public static PapiPlaceholders getInstance() {
@@ -46,6 +50,15 @@ public class PapiPlaceholders implements IConfigurable {
         return statusAchieved;
     }
 
+    /**
+     * Get how long time-based placeholder values are cached, in milliseconds. 0 disables their cache.
+     *
+     * @return the cache duration in milliseconds.
+     */
+    public static long getCacheTtl() {
+        return getInstance().cacheTtl;
+    }
+
     public static String parseStatus(boolean achieved) {
         final PapiPlaceholders papiPlaceholders = getInstance();
         return achieved ? papiPlaceholders.getStatusAchieved() : papiPlaceholders.getStatusNotAchieved();
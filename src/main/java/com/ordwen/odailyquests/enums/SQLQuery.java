@@ -71,9 +71,9 @@ public enum SQLQuery {
                     `total_achieved_quests` = VALUES(`total_achieved_quests`);
             """),
 
-    MYSQL_DELETE_PROGRESS("""
+    MYSQL_DELETE_PROGRESS_FROM("""
                 DELETE FROM `odq_progression`
-                WHERE `player_uuid` = ?;
+                WHERE `player_uuid` = ? AND `player_quest_id` >= ?;
             """),
 
     MYSQL_DELETE_PLAYER_CATEGORY_STATS("""
@@ -81,6 +81,11 @@ public enum SQLQuery {
                 WHERE `player_uuid` = ?;
             """),
 
+    MYSQL_DELETE_PLAYER_CATEGORY_STAT("""
+                DELETE FROM `odq_player_category_stats`
+                WHERE `player_uuid` = ? AND `category` = ?;
+            """),
+
     // SQLite queries //
 
     SQLITE_CREATE_PLAYER_TABLE("""
@@ -125,18 +130,28 @@ public enum SQLQuery {
             """),
 
     SQLITE_SAVE_PROGRESS("""
-                INSERT OR REPLACE INTO `odq_progression` (`player_uuid`, `player_quest_id`, `quest_index`, `category`, `advancement`, `required_amount`, `reward_amount`, `is_achieved`, `selected_required`)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?);
+                INSERT INTO `odq_progression` (`player_uuid`, `player_quest_id`, `quest_index`, `category`, `advancement`, `required_amount`, `reward_amount`, `is_achieved`, `selected_required`)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (`player_uuid`, `player_quest_id`) DO UPDATE SET
+                    `quest_index` = excluded.`quest_index`,
+                    `category` = excluded.`category`,
+                    `advancement` = excluded.`advancement`,
+                    `required_amount` = excluded.`required_amount`,
+                    `reward_amount` = excluded.`reward_amount`,
+                    `is_achieved` = excluded.`is_achieved`,
+                    `selected_required` = excluded.`selected_required`;
             """),
 
     SQLITE_SAVE_PLAYER_CATEGORY_STATS("""
-                INSERT OR REPLACE INTO `odq_player_category_stats` (`player_uuid`, `category`, `total_achieved_quests`)
-                VALUES (?, ?, ?);
+                INSERT INTO `odq_player_category_stats` (`player_uuid`, `category`, `total_achieved_quests`)
+                VALUES (?, ?, ?)
+                ON CONFLICT (`player_uuid`, `category`) DO UPDATE SET
+                    `total_achieved_quests` = excluded.`total_achieved_quests`;
             """),
 
-    SQLITE_DELETE_PROGRESS("""
+    SQLITE_DELETE_PROGRESS_FROM("""
                 DELETE FROM `odq_progression`
-                WHERE `player_uuid` = ?;
+                WHERE `player_uuid` = ? AND `player_quest_id` >= ?;
             """),
 
     SQLITE_DELETE_PLAYER_CATEGORY_STATS("""
@@ -144,6 +159,11 @@ public enum SQLQuery {
                 WHERE `player_uuid` = ?;
             """),
 
+    SQLITE_DELETE_PLAYER_CATEGORY_STAT("""
+                DELETE FROM `odq_player_category_stats`
+                WHERE `player_uuid` = ? AND `category` = ?;
+            """),
+
     // Common queries //
 
     LOAD_PLAYER("""
@@ -2,6 +2,7 @@ package com.ordwen.odailyquests.events;
 
 import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.configuration.essentials.CustomFurnaceResults;
+import com.ordwen.odailyquests.configuration.essentials.Debugger;
 import com.ordwen.odailyquests.configuration.integrations.ItemsAdderEnabled;
 import com.ordwen.odailyquests.configuration.integrations.NexoEnabled;
 import com.ordwen.odailyquests.configuration.integrations.OraxenEnabled;
@@ -29,15 +30,28 @@ import com.ordwen.odailyquests.events.listeners.global.*;
 import com.ordwen.odailyquests.events.listeners.inventory.InventoryClickListener;
 import com.ordwen.odailyquests.events.listeners.inventory.InventoryCloseListener;
 import com.ordwen.odailyquests.events.listeners.item.*;
+import com.ordwen.odailyquests.quests.categories.CategoriesLoader;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import com.ordwen.odailyquests.tools.PluginUtils;
 import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
 import org.bukkit.plugin.PluginManager;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 public class EventsManager {
 
     private final ODailyQuests oDailyQuests;
 
+    /* listeners that are only useful when at least one loaded quest uses one of the associated quest types */
+    private final Map<Listener, Set<String>> questListeners = new LinkedHashMap<>();
+    private final Set<Listener> registeredQuestListeners = new HashSet<>();
+
     public EventsManager(ODailyQuests oDailyQuests) {
         this.oDailyQuests = oDailyQuests;
     }
@@ -56,40 +70,66 @@ public class EventsManager {
 
     private void registerBukkitNativeListeners(final PluginManager pluginManager) {
         // entity events
-        pluginManager.registerEvents(new EntityBreedListener(), oDailyQuests);
-        pluginManager.registerEvents(new EntityTameListener(), oDailyQuests);
-        pluginManager.registerEvents(new ShearEntityListener(), oDailyQuests);
-        pluginManager.registerEvents(new EntityDeathListener(), oDailyQuests);
-        pluginManager.registerEvents(new SpawnerSpawnListener(), oDailyQuests);
+        questListeners.put(new EntityBreedListener(), Set.of("BREED"));
+        questListeners.put(new EntityTameListener(), Set.of("TAME"));
+        questListeners.put(new ShearEntityListener(), Set.of("SHEAR"));
+        questListeners.put(new EntityDeathListener(), Set.of("KILL"));
+        questListeners.put(new SpawnerSpawnListener(), Set.of("KILL"));
+        questListeners.put(new PlayerInteractEntityListener(), Set.of("VILLAGER_TRADE"));
 
         // global events
-        pluginManager.registerEvents(new BucketFillListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerExpChangeListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerLevelChangeListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerInteractListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerInteractEntityListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerDeathListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerRespawnListener(), oDailyQuests);
-
-        // item events
-        pluginManager.registerEvents(new BlockBreakListener(), oDailyQuests);
-        pluginManager.registerEvents(new BlockPlaceListener(), oDailyQuests);
-        pluginManager.registerEvents(new CraftItemListener(), oDailyQuests);
-        pluginManager.registerEvents(new SmithItemListener(), oDailyQuests);
-        pluginManager.registerEvents(new EnchantItemListener(), oDailyQuests);
-        pluginManager.registerEvents(new FurnaceExtractListener(), oDailyQuests);
-        pluginManager.registerEvents(new PickupItemListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerFishListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerItemConsumeListener(), oDailyQuests);
-        pluginManager.registerEvents(new ProjectileLaunchListener(), oDailyQuests);
+        questListeners.put(new BucketFillListener(), Set.of("MILKING"));
+        questListeners.put(new PlayerExpChangeListener(), Set.of("EXP_POINTS"));
+        questListeners.put(new PlayerLevelChangeListener(), Set.of("EXP_LEVELS"));
+        questListeners.put(new PlayerInteractListener(), Set.of("CARVE"));
+        questListeners.put(new PlayerDeathListener(), Set.of("PLAYER_DEATH"));
+        questListeners.put(new PlayerRespawnListener(), Set.of("PLAYER_DEATH"));
+
+        // item events (placed/broken blocks tracking is only needed by the quests it protects)
+        questListeners.put(new BlockBreakListener(), Set.of("BREAK", "FARMING"));
+        questListeners.put(new BlockPlaceListener(), Set.of("PLACE", "BREAK", "FARMING"));
+        questListeners.put(new CraftItemListener(), Set.of("CRAFT"));
+        questListeners.put(new SmithItemListener(), Set.of("CRAFT"));
+        questListeners.put(new EnchantItemListener(), Set.of("ENCHANT"));
+        questListeners.put(new FurnaceExtractListener(), Set.of("COOK"));
+        questListeners.put(new PickupItemListener(), Set.of("PICKUP"));
+        questListeners.put(new PlayerFishListener(), Set.of("FISH"));
+        questListeners.put(new PlayerItemConsumeListener(), Set.of("CONSUME"));
+        questListeners.put(new ProjectileLaunchListener(), Set.of("LAUNCH"));
+        questListeners.put(new BlockDropItemListener(), Set.of("FARMING", "PLACE"));
+        questListeners.put(new PlayerHarvestBlockListener(), Set.of("FARMING"));
+        questListeners.put(new PlayerDropItemListener(), Set.of("PICKUP"));
+        questListeners.put(new StructureGrowListener(), Set.of("BREAK", "FARMING"));
+
+        refreshQuestListeners();
+
+        // inventory events (also used by the quests menu, always needed)
         pluginManager.registerEvents(new InventoryClickListener(oDailyQuests.getInterfacesManager().getPlayerQuestsInterface()), oDailyQuests);
-        pluginManager.registerEvents(new BlockDropItemListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerHarvestBlockListener(), oDailyQuests);
-        pluginManager.registerEvents(new PlayerDropItemListener(), oDailyQuests);
-        pluginManager.registerEvents(new StructureGrowListener(), oDailyQuests);
-
-        // inventory events
         pluginManager.registerEvents(new InventoryCloseListener(), oDailyQuests);
+        pluginManager.registerEvents(new PlacedBlocksListener(), oDailyQuests);
+    }
+
+    /**
+     * Registers the quest listeners required by the currently loaded quest types, and unregisters the others.
+     * <p>
+     * Must be called each time the quests are (re)loaded.
+     */
+    public void refreshQuestListeners() {
+        final Set<String> loadedTypes = CategoriesLoader.getLoadedQuestTypes();
+        final PluginManager pluginManager = Bukkit.getPluginManager();
+
+        for (Map.Entry<Listener, Set<String>> entry : questListeners.entrySet()) {
+            final Listener listener = entry.getKey();
+            final boolean needed = !Collections.disjoint(entry.getValue(), loadedTypes);
+
+            if (needed && registeredQuestListeners.add(listener)) {
+                pluginManager.registerEvents(listener, oDailyQuests);
+                Debugger.write("EventsManager: " + listener.getClass().getSimpleName() + " registered.");
+            } else if (!needed && registeredQuestListeners.remove(listener)) {
+                HandlerList.unregisterAll(listener);
+                Debugger.write("EventsManager: " + listener.getClass().getSimpleName() + " unregistered, no loaded quest needs it.");
+            }
+        }
     }
 
     private void registerCustomEvents(final PluginManager pluginManager) {
@@ -1,6 +1,5 @@
 package com.ordwen.odailyquests.events.antiglitch;
 
-import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.configuration.essentials.Debugger;
 import com.ordwen.odailyquests.configuration.functionalities.SpawnerProgression;
 import org.bukkit.NamespacedKey;
@@ -12,7 +11,7 @@ public class EntitySource {
     private EntitySource() {
     }
 
-    public static final NamespacedKey FROM_SPAWNER = new NamespacedKey(ODailyQuests.INSTANCE, "from_spawner");
+    public static final NamespacedKey FROM_SPAWNER = NamespacedKey.fromString("odailyquests:from_spawner");
 
     /**
      * Adds an entity from a spawner.
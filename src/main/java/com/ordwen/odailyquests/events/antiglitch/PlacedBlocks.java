@@ -0,0 +1,239 @@
+package com.ordwen.odailyquests.events.antiglitch;
+
+import com.jeff_media.customblockdata.CustomBlockData;
+import com.ordwen.odailyquests.ODailyQuests;
+import com.ordwen.odailyquests.configuration.essentials.Antiglitch;
+import com.ordwen.odailyquests.configuration.essentials.Debugger;
+import com.ordwen.odailyquests.tools.PluginLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the blocks placed by players, used by the anti-glitch to prevent progressing quests by breaking them.
+ * <p>
+ * The placed blocks of a chunk are kept in memory from the first time the chunk is checked until it is unloaded,
+ * and are persisted in the chunk's persistent data container as a single byte array. Chunks still holding the
+ * per-block entries written by previous versions are migrated the first time they are checked.
+ */
+public class PlacedBlocks {
+
+    private PlacedBlocks() {
+        // Utility class
+    }
+
+    /* placed blocks of the checked chunks, by world and chunk key */
+    private static final Map<UUID, Map<Long, PlacedChunk>> worlds = new ConcurrentHashMap<>();
+
+    /**
+     * Record a block placed by a player, with its current material.
+     *
+     * @param block placed block.
+     */
+    public static void markPlaced(Block block) {
+        markPlaced(block, block.getType());
+    }
+
+    /**
+     * Record a block placed by a player.
+     *
+     * @param block    placed block.
+     * @param material material of the block.
+     */
+    public static void markPlaced(Block block, Material material) {
+        getChunk(block).put(PlacedChunk.pack(block.getX(), block.getY(), block.getZ()), material);
+    }
+
+    /**
+     * Get the material a block had when it was placed by a player.
+     *
+     * @param block block to check.
+     * @return the material, or null if the block has not been placed by a player.
+     */
+    public static @Nullable Material getPlacedType(Block block) {
+        return getChunk(block).get(PlacedChunk.pack(block.getX(), block.getY(), block.getZ()));
+    }
+
+    /**
+     * Check if a block has been placed by a player.
+     *
+     * @param block block to check.
+     * @return true if the block has been placed by a player.
+     */
+    public static boolean isPlaced(Block block) {
+        return getPlacedType(block) != null;
+    }
+
+    /**
+     * Count the blocks placed by players in the column of a block, between two heights.
+     *
+     * @param block a block of the column.
+     * @param minY  lowest height of the column, inclusive.
+     * @param maxY  highest height of the column, inclusive.
+     * @return the number of placed blocks in the column.
+     */
+    public static int countPlacedInColumn(Block block, int minY, int maxY) {
+        return getChunk(block).countInColumn(block.getX(), block.getZ(), minY, maxY);
+    }
+
+    /**
+     * Forget a placed block, when it is removed from the world.
+     *
+     * @param block removed block.
+     * @return the material the block had when it was placed, or null if it was not a placed block.
+     */
+    public static @Nullable Material unmark(Block block) {
+        return getChunk(block).remove(PlacedChunk.pack(block.getX(), block.getY(), block.getZ()));
+    }
+
+    /**
+     * Persist the placed blocks of a chunk if they changed, and release them from memory.
+     *
+     * @param chunk the chunk being unloaded.
+     */
+    public static void unloadChunk(Chunk chunk) {
+        final Map<Long, PlacedChunk> chunks = worlds.get(chunk.getWorld().getUID());
+        if (chunks == null) return;
+
+        final PlacedChunk placed = chunks.remove(chunkKey(chunk.getX(), chunk.getZ()));
+        if (placed != null) {
+            persist(chunk, placed);
+        }
+    }
+
+    /**
+     * Persist the placed blocks of all chunks of a world that changed, keeping them in memory.
+     *
+     * @param world the world being saved.
+     */
+    public static void saveWorld(World world) {
+        final Map<Long, PlacedChunk> chunks = worlds.get(world.getUID());
+        if (chunks == null) return;
+
+        for (Map.Entry<Long, PlacedChunk> entry : chunks.entrySet()) {
+            final PlacedChunk placed = entry.getValue();
+            if (!placed.isDirty()) continue;
+
+            final long key = entry.getKey();
+            final int chunkX = (int) key;
+            final int chunkZ = (int) (key >> 32);
+
+            if (ODailyQuests.morePaperLib.scheduling().isUsingFolia()) {
+                /* chunks can only be accessed from the thread owning their region */
+                ODailyQuests.morePaperLib.scheduling().regionSpecificScheduler(world, chunkX, chunkZ)
+                        .run(() -> persistIfLoaded(world, chunkX, chunkZ, placed));
+            } else {
+                persistIfLoaded(world, chunkX, chunkZ, placed);
+            }
+        }
+    }
+
+    /**
+     * Persist the placed blocks of all chunks that changed and release them from memory, when the plugin is disabled.
+     */
+    public static void saveAll() {
+        for (Map.Entry<UUID, Map<Long, PlacedChunk>> worldEntry : worlds.entrySet()) {
+            final World world = Bukkit.getWorld(worldEntry.getKey());
+            if (world == null) continue;
+
+            for (Map.Entry<Long, PlacedChunk> entry : worldEntry.getValue().entrySet()) {
+                final long key = entry.getKey();
+                persistIfLoaded(world, (int) key, (int) (key >> 32), entry.getValue());
+            }
+        }
+        worlds.clear();
+    }
+
+    private static void persistIfLoaded(World world, int chunkX, int chunkZ, PlacedChunk placed) {
+        if (placed.isDirty() && world.isChunkLoaded(chunkX, chunkZ)) {
+            persist(world.getChunkAt(chunkX, chunkZ), placed);
+        }
+    }
+
+    private static void persist(Chunk chunk, PlacedChunk placed) {
+        if (!placed.isDirty()) return;
+
+        final PersistentDataContainer pdc = chunk.getPersistentDataContainer();
+        if (placed.isEmpty()) {
+            pdc.remove(Antiglitch.PLACED_BLOCKS_KEY);
+            placed.save();
+        } else {
+            pdc.set(Antiglitch.PLACED_BLOCKS_KEY, PersistentDataType.BYTE_ARRAY, placed.save());
+        }
+    }
+
+    /**
+     * Get the placed blocks of the chunk of a block, reading them from the chunk on first access.
+     *
+     * @param block a block of the chunk.
+     * @return the placed blocks of the chunk.
+     */
+    private static PlacedChunk getChunk(Block block) {
+        final Map<Long, PlacedChunk> chunks = worlds.computeIfAbsent(block.getWorld().getUID(), k -> new ConcurrentHashMap<>());
+        final long key = chunkKey(block.getX() >> 4, block.getZ() >> 4);
+
+        PlacedChunk placed = chunks.get(key);
+        if (placed == null) {
+            placed = read(block.getChunk());
+            chunks.put(key, placed);
+        }
+        return placed;
+    }
+
+    private static PlacedChunk read(Chunk chunk) {
+        final byte[] data = chunk.getPersistentDataContainer().get(Antiglitch.PLACED_BLOCKS_KEY, PersistentDataType.BYTE_ARRAY);
+        if (data != null) {
+            try {
+                return PlacedChunk.load(data);
+            } catch (Exception e) {
+                PluginLogger.error("Unable to read the placed blocks of chunk " + chunk.getX() + ", " + chunk.getZ() + " in world " + chunk.getWorld().getName() + ": " + e.getMessage());
+                return new PlacedChunk();
+            }
+        }
+
+        /* persisted right away, the legacy entries have been removed */
+        final PlacedChunk migrated = migrateLegacyEntries(chunk);
+        persist(chunk, migrated);
+        return migrated;
+    }
+
+    /**
+     * Move the per-block entries written by previous versions into a compact registry.
+     *
+     * @param chunk the chunk to migrate.
+     * @return the placed blocks of the chunk.
+     */
+    private static PlacedChunk migrateLegacyEntries(Chunk chunk) {
+        final PlacedChunk placed = new PlacedChunk();
+
+        for (Block block : CustomBlockData.getBlocksWithCustomData(ODailyQuests.INSTANCE, chunk)) {
+            final PersistentDataContainer pdc = new CustomBlockData(block, ODailyQuests.INSTANCE);
+            final String type = pdc.get(Antiglitch.PLACED_KEY, PersistentDataType.STRING);
+            if (type == null) continue;
+
+            final Material material = Material.getMaterial(type);
+            if (material != null) {
+                placed.put(PlacedChunk.pack(block.getX(), block.getY(), block.getZ()), material);
+            }
+            pdc.remove(Antiglitch.PLACED_KEY);
+        }
+
+        if (!placed.isEmpty()) {
+            Debugger.write(() -> "PlacedBlocks: migrated legacy placed blocks of chunk " + chunk.getX() + ", " + chunk.getZ() + ".");
+        }
+        return placed;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return (chunkX & 0xFFFFFFFFL) | ((long) chunkZ << 32);
+    }
+}
@@ -0,0 +1,282 @@
+package com.ordwen.odailyquests.events.antiglitch;
+
+import org.bukkit.Material;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Player-placed blocks of a single chunk.
+ * <p>
+ * Positions are packed into an int (block coordinates relative to the chunk) and stored in an open-addressing table,
+ * with the material of each block stored as its ordinal. On disk, the materials are stored by name in a palette, so
+ * that the data survives a server update changing the material ordinals.
+ */
+final class PlacedChunk {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final Material[] MATERIALS = Material.values();
+
+    /* packed positions can never be equal to this value, since y is far above the world height limits */
+    private static final int EMPTY = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /* 16 x 16 columns, with the tallest world height allowed by the game */
+    private static final int MAX_BLOCKS = 16 * 16 * 4096;
+
+    private int[] positions;
+    private short[] materials;
+    private int size;
+    private boolean dirty;
+
+    PlacedChunk() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private PlacedChunk(int capacity) {
+        positions = new int[capacity];
+        materials = new short[capacity];
+        Arrays.fill(positions, EMPTY);
+    }
+
+    /**
+     * Pack the coordinates of a block into a position relative to its chunk.
+     *
+     * @param x block x coordinate.
+     * @param y block y coordinate.
+     * @param z block z coordinate.
+     * @return the packed position.
+     */
+    static int pack(int x, int y, int z) {
+        return (y << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Get the material a block had when it was placed.
+     *
+     * @param position packed position of the block.
+     * @return the material, or null if the block has not been placed by a player.
+     */
+    synchronized @Nullable Material get(int position) {
+        final int index = indexOf(position);
+        return index < 0 ? null : MATERIALS[materials[index]];
+    }
+
+    /**
+     * Record a placed block.
+     *
+     * @param position packed position of the block.
+     * @param material material of the block.
+     */
+    synchronized void put(int position, Material material) {
+        if ((size + 1) * 2 > positions.length) {
+            resize(positions.length * 2);
+        }
+
+        final int mask = positions.length - 1;
+        int index = hash(position) & mask;
+        while (positions[index] != EMPTY && positions[index] != position) {
+            index = (index + 1) & mask;
+        }
+
+        if (positions[index] == EMPTY) {
+            positions[index] = position;
+            size++;
+        }
+        materials[index] = (short) material.ordinal();
+        dirty = true;
+    }
+
+    /**
+     * Forget a placed block.
+     *
+     * @param position packed position of the block.
+     * @return the material the block had when it was placed, or null if it was not a placed block.
+     */
+    synchronized @Nullable Material remove(int position) {
+        int index = indexOf(position);
+        if (index < 0) return null;
+
+        final Material removed = MATERIALS[materials[index]];
+
+        /* backward shift deletion, keeps the probe sequences of the following entries valid */
+        final int mask = positions.length - 1;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (positions[next] == EMPTY) break;
+
+            final int home = hash(positions[next]) & mask;
+            final boolean reachable = index <= next
+                    ? index < home && home <= next
+                    : index < home || home <= next;
+            if (reachable) continue;
+
+            positions[index] = positions[next];
+            materials[index] = materials[next];
+            index = next;
+        }
+
+        positions[index] = EMPTY;
+        size--;
+        dirty = true;
+        return removed;
+    }
+
+    /**
+     * Count the placed blocks of a column of the chunk, between two heights.
+     *
+     * @param x    block x coordinate.
+     * @param z    block z coordinate.
+     * @param minY lowest height of the column, inclusive.
+     * @param maxY highest height of the column, inclusive.
+     * @return the number of placed blocks in the column.
+     */
+    synchronized int countInColumn(int x, int z, int minY, int maxY) {
+        if (size == 0) return 0;
+
+        int count = 0;
+        for (int y = minY; y <= maxY; y++) {
+            if (indexOf(pack(x, y, z)) >= 0) count++;
+        }
+        return count;
+    }
+
+    private int indexOf(int position) {
+        final int mask = positions.length - 1;
+        int index = hash(position) & mask;
+        while (positions[index] != EMPTY) {
+            if (positions[index] == position) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        final int[] oldPositions = positions;
+        final short[] oldMaterials = materials;
+
+        positions = new int[capacity];
+        materials = new short[capacity];
+        Arrays.fill(positions, EMPTY);
+
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldPositions.length; i++) {
+            final int position = oldPositions[i];
+            if (position == EMPTY) continue;
+
+            int index = hash(position) & mask;
+            while (positions[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            positions[index] = position;
+            materials[index] = oldMaterials[i];
+        }
+    }
+
+    private static int hash(int position) {
+        final int h = position * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Serialize the placed blocks, and mark the chunk as saved.
+     *
+     * @return the serialized placed blocks.
+     */
+    synchronized byte[] save() {
+        final Map<Short, Short> palette = new HashMap<>();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + size * 6);
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+
+            /* palette, in order of first appearance */
+            final short[] paletteMaterials = new short[size];
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] != EMPTY && !palette.containsKey(materials[i])) {
+                    paletteMaterials[palette.size()] = materials[i];
+                    palette.put(materials[i], (short) palette.size());
+                }
+            }
+
+            out.writeShort(palette.size());
+            for (int i = 0; i < palette.size(); i++) {
+                out.writeUTF(MATERIALS[paletteMaterials[i]].name());
+            }
+
+            out.writeInt(size);
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] == EMPTY) continue;
+                out.writeInt(positions[i]);
+                out.writeShort(palette.get(materials[i]));
+            }
+        } catch (IOException e) {
+            /* not expected, the stream is in memory */
+            throw new IllegalStateException(e);
+        }
+
+        dirty = false;
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read placed blocks serialized by {@link #save()}. Blocks of unknown materials are ignored.
+     *
+     * @param data serialized placed blocks.
+     * @return the placed blocks.
+     * @throws IOException if the data is malformed.
+     */
+    static PlacedChunk load(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            final byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported placed blocks format: " + version);
+            }
+
+            final int paletteSize = in.readUnsignedShort();
+            final Material[] palette = new Material[paletteSize];
+            for (int i = 0; i < paletteSize; i++) {
+                palette[i] = Material.getMaterial(in.readUTF());
+            }
+
+            final int count = in.readInt();
+            if (count < 0 || count > MAX_BLOCKS) {
+                throw new IOException("Invalid placed blocks count: " + count);
+            }
+
+            int capacity = INITIAL_CAPACITY;
+            while (capacity < count * 2) {
+                capacity <<= 1;
+            }
+
+            final PlacedChunk chunk = new PlacedChunk(capacity);
+            for (int i = 0; i < count; i++) {
+                final int position = in.readInt();
+                final Material material = palette[in.readUnsignedShort()];
+                if (material != null) {
+                    chunk.put(position, material);
+                }
+            }
+
+            chunk.dirty = false;
+            return chunk;
+        }
+    }
+}
@@ -11,7 +11,7 @@ public class CrateOpenListener extends PlayerProgressor implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onCrateOpenEvent(CrateOpenEvent event) {
-        Debugger.write("CrateOpenListener: onCrateOpenEvent summoned for " + event.getPlayer().getName() + ".");
+        Debugger.write(() -> "CrateOpenListener: onCrateOpenEvent summoned for " + event.getPlayer().getName() + ".");
         if (event.isCancelled()) {
             Debugger.write("CrateOpenListener: onCrateOpenEvent is cancelled.");
             return;
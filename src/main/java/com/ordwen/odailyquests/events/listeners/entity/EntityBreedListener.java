@@ -17,7 +17,7 @@ public class EntityBreedListener extends PlayerProgressor implements Listener {
 
         if (event.getBreeder() != null && event.getBreeder() instanceof Player player) {
             Debugger.write("=========================================================================================");
-            Debugger.write("EntityBreedEvent: onEntityBreadEvent summoned by " + player.getName() + " for " + event.getEntityType() + ".");
+            Debugger.write(() -> "EntityBreedEvent: onEntityBreadEvent summoned by " + player.getName() + " for " + event.getEntityType() + ".");
             setPlayerQuestProgression(event, player, 1, "BREED");
         }
     }
@@ -34,7 +34,7 @@ public class EntityDeathListener extends PlayerProgressor implements Listener {
         if (isSpawnerKillWithoutBypass(entity, killer)) return;
         if (isHandledByWildOrRoseStacker(event, entity)) return;
 
-        Debugger.write("EntityDeathListener: onEntityDeathEvent summoned by " + killer.getName() + " for " + entity.getType() + ".");
+        Debugger.write(() -> "EntityDeathListener: onEntityDeathEvent summoned by " + killer.getName() + " for " + entity.getType() + ".");
         setPlayerQuestProgression(event, killer, 1, "KILL");
     }
 
@@ -56,24 +56,26 @@ public class EntityDeathListener extends PlayerProgressor implements Listener {
         final String internalName = mythicMob.getType().getInternalName();
         final String upper = internalName.toUpperCase();
 
-        EntityType mapped = null;
+        EntityType parsed = null;
         try {
-            mapped = EntityType.valueOf(upper);
+            parsed = EntityType.valueOf(upper);
         } catch (IllegalArgumentException ignore) {
             // Internal name does not match any Bukkit EntityType -> custom MythicMob
         }
 
+        final EntityType mapped = parsed;
+
         if (mapped == null) {
-            Debugger.write("EntityDeathListener: Entity is a custom MythicMob (" + internalName + "), cancelling progression.");
+            Debugger.write(() -> "EntityDeathListener: Entity is a custom MythicMob (" + internalName + "), cancelling progression.");
             return true;
         }
 
         if (mapped != entity.getType()) {
-            Debugger.write("EntityDeathListener: InternalName maps to " + mapped + " but entity is " + entity.getType() + ", cancelling progression.");
+            Debugger.write(() -> "EntityDeathListener: InternalName maps to " + mapped + " but entity is " + entity.getType() + ", cancelling progression.");
             return true;
         }
 
-        Debugger.write("EntityDeathListener: MythicMob matches vanilla type " + mapped + ", progression allowed.");
+        Debugger.write(() -> "EntityDeathListener: MythicMob matches vanilla type " + mapped + ", progression allowed.");
         return false;
     }
 
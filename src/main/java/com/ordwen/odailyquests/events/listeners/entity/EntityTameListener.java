@@ -17,7 +17,7 @@ public class EntityTameListener extends PlayerProgressor implements Listener {
 
         if (event.getOwner() instanceof Player player) {
             Debugger.write("=========================================================================================");
-            Debugger.write("EntityTameEvent: onEntityTameEvent summoned by " + player.getName() + " for " + event.getEntityType() + ".");
+            Debugger.write(() -> "EntityTameEvent: onEntityTameEvent summoned by " + player.getName() + " for " + event.getEntityType() + ".");
 
             setPlayerQuestProgression(event, player, 1, "TAME");
         }
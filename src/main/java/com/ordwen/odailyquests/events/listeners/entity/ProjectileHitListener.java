@@ -28,7 +28,7 @@ public class ProjectileHitListener extends PlayerProgressor implements Listener
         // check if player is reflecting fireball
         if (event.getEntityType() == EntityType.FIREBALL && entity instanceof Ghast) {
                 Debugger.write("=========================================================================================");
-                Debugger.write("ProjectileHitListener: onProjectileHit summoned by " + player.getName() + " for " + entity.getType() + ".");
+                Debugger.write(() -> "ProjectileHitListener: onProjectileHit summoned by " + player.getName() + " for " + entity.getType() + ".");
 
                 setPlayerQuestProgression(event, player, 1, "FIREBALL_REFLECT");
             }
@@ -34,7 +34,7 @@ public class ShearEntityListener extends PlayerProgressor implements Listener {
 
             if (stacked != null) {
                 final int stackSize = stacked.getStackSize();
-                Debugger.write("ShearEntityListener: Stacked entity detected, stack size = " + stackSize);
+                Debugger.write(() -> "ShearEntityListener: Stacked entity detected, stack size = " + stackSize);
                 shearedItemAmount = stackSize;
             } else {
                 Debugger.write("ShearEntityListener: No stacked entity found (null), using default amount = 1.");
@@ -42,7 +42,7 @@ public class ShearEntityListener extends PlayerProgressor implements Listener {
         }
 
         Debugger.write("=========================================================================================");
-        Debugger.write("ShearEntityListener: Shear event by " + player.getName() + " on " + entity.getType());
+        Debugger.write(() -> "ShearEntityListener: Shear event by " + player.getName() + " on " + entity.getType());
 
         setPlayerQuestProgression(event, player, shearedItemAmount, "SHEAR");
     }
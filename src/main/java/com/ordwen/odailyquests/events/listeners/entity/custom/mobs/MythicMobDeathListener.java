@@ -19,14 +19,14 @@ public class MythicMobDeathListener extends PlayerProgressor implements Listener
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onMythicMobsDeathEvent(MythicMobDeathEvent event) {
         final ActiveMob activeMob = event.getMob();
-        Debugger.write("MythicMobDeathEvent triggered for mob: " + activeMob.getDisplayName());
+        Debugger.write(() -> "MythicMobDeathEvent triggered for mob: " + activeMob.getDisplayName());
 
         if (SharedMobs.isEnabled()) {
-            Debugger.write("SharedMobs is enabled, processing threat table for mob: " + activeMob.getDisplayName());
+            Debugger.write(() -> "SharedMobs is enabled, processing threat table for mob: " + activeMob.getDisplayName());
             final ActiveMob.ThreatTable threatTable = activeMob.getThreatTable();
 
             if (threatTable == null || threatTable.getAllThreatTargets().isEmpty()) {
-                Debugger.write("Threat table is null or empty for mob: " + activeMob.getDisplayName() + ", falling back to classic progression.");
+                Debugger.write(() -> "Threat table is null or empty for mob: " + activeMob.getDisplayName() + ", falling back to classic progression.");
                 if (event.getKiller() instanceof Player player) {
                     setPlayerQuestProgression(event, player, 1, "MYTHIC_MOBS");
                 }
@@ -32,7 +32,7 @@ public class RoseStackerListener extends PlayerProgressor implements Listener {
             return;
         }
 
-        Debugger.write("EntityStackMultipleDeathEvent: onEntityUnstackEvent summoned by " + player.getName() + " for " + entity.getType() + ".");
+        Debugger.write(() -> "EntityStackMultipleDeathEvent: onEntityUnstackEvent summoned by " + player.getName() + " for " + entity.getType() + ".");
 
         ODailyQuests.morePaperLib.scheduling().entitySpecificScheduler(player).run(
                 () -> setPlayerQuestProgression(event, player, event.getEntityKillCount(), "KILL"),
@@ -21,7 +21,7 @@ public class BucketFillListener extends PlayerProgressor implements Listener {
 
         if (item.getType() == Material.MILK_BUCKET) {
             Debugger.write("=========================================================================================");
-            Debugger.write("BucketFillListener: onPlayerBucketFill summoned by " + event.getPlayer().getName());
+            Debugger.write(() -> "BucketFillListener: onPlayerBucketFill summoned by " + event.getPlayer().getName());
 
             setPlayerQuestProgression(event, event.getPlayer(), 1, "MILKING");
         }
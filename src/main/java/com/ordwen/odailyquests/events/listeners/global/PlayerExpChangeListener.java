@@ -12,7 +12,7 @@ public class PlayerExpChangeListener extends PlayerProgressor implements Listene
 
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerExpChangeEvent(PlayerExpChangeEvent event) {
-        Debugger.write("PlayerExpChangeListener: onPlayerExpChangeEvent summoned by " + event.getPlayer().getName());
+        Debugger.write(() -> "PlayerExpChangeListener: onPlayerExpChangeEvent summoned by " + event.getPlayer().getName());
         setPlayerQuestProgression(event, event.getPlayer(), event.getAmount(), "EXP_POINTS");
     }
 }
@@ -15,7 +15,7 @@ public class PlayerLevelChangeListener extends PlayerProgressor implements Liste
         final int diff = event.getNewLevel() - event.getOldLevel();
         if (diff > 0) {
             Debugger.write("=========================================================================================");
-            Debugger.write("PlayerLevelChangeListener: onPlayerLevelChangeEvent summoned by " + event.getPlayer().getName());
+            Debugger.write(() -> "PlayerLevelChangeListener: onPlayerLevelChangeEvent summoned by " + event.getPlayer().getName());
 
             setPlayerQuestProgression(event, event.getPlayer(), diff, "EXP_LEVELS");
         }
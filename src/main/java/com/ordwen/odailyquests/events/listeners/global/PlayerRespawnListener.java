@@ -19,7 +19,7 @@ public class PlayerRespawnListener extends PlayerProgressor implements Listener
             player.removeMetadata("odailyquests:dead", ODailyQuests.INSTANCE);
 
             Debugger.write("=========================================================================================");
-            Debugger.write("PlayerRespawnListener: onPlayerRespawn summoned by " + player.getName());
+            Debugger.write(() -> "PlayerRespawnListener: onPlayerRespawn summoned by " + player.getName());
             setPlayerQuestProgression(event, player, 1, "PLAYER_DEATH");
         }
     }
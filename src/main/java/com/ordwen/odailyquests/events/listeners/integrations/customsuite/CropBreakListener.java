@@ -17,7 +17,7 @@ public class CropBreakListener extends PlayerProgressor implements Listener {
         final Entity breaker = event.entityBreaker();
 
         if (breaker instanceof Player player) {
-            Debugger.write("CropBreakListener: onCropBreak summoned by " + player.getName() + ".");
+            Debugger.write(() -> "CropBreakListener: onCropBreak summoned by " + player.getName() + ".");
             setPlayerQuestProgression(event, player, 1, "BREAK");
         }
     }
@@ -11,7 +11,7 @@ public class FishingLootSpawnListener extends PlayerProgressor implements Listen
 
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onLootSpawn(FishingLootSpawnEvent event) {
-        Debugger.write("FishingLootSpawnListener: onLootSpawn summoned by " + event.getPlayer().getName());
+        Debugger.write(() -> "FishingLootSpawnListener: onLootSpawn summoned by " + event.getPlayer().getName());
         setPlayerQuestProgression(event, event.getPlayer(), 1, "FISH");
     }
 }
@@ -1,10 +1,9 @@
 package com.ordwen.odailyquests.events.listeners.integrations.itemsadder;
 
-import com.jeff_media.customblockdata.CustomBlockData;
-import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.configuration.essentials.Antiglitch;
 
 import com.ordwen.odailyquests.configuration.essentials.Debugger;
+import com.ordwen.odailyquests.events.antiglitch.PlacedBlocks;
 import com.ordwen.odailyquests.quests.player.progression.PlayerProgressor;
 import dev.lone.itemsadder.api.Events.CustomBlockBreakEvent;
 import org.bukkit.block.Block;
@@ -12,8 +11,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -33,11 +30,8 @@ public class CustomBlockBreakListener extends PlayerProgressor implements Listen
 
         AtomicBoolean valid = new AtomicBoolean(true);
 
-        if (Antiglitch.isStorePlacedBlocks()) {
-            final PersistentDataContainer pdc = new CustomBlockData(block, ODailyQuests.INSTANCE);
-            if (pdc.has(Antiglitch.PLACED_KEY, PersistentDataType.STRING)) {
-                valid.set(false);
-            }
+        if (Antiglitch.isStorePlacedBlocks() && PlacedBlocks.isPlaced(block)) {
+            valid.set(false);
         }
 
         if (valid.get()) {
@@ -39,7 +39,7 @@ public class InventoryClickListener extends ClickableChecker implements Listener
         if (action == InventoryAction.NOTHING) return;
 
         final Player player = (Player) event.getWhoClicked();
-        if (!QuestsManager.getActiveQuests().containsKey(player.getName())) {
+        if (!QuestsManager.getActiveQuestsRegistry().contains(player.getUniqueId())) {
             return;
         }
 
@@ -121,7 +121,7 @@ public class InventoryClickListener extends ClickableChecker implements Listener
         }
 
         final int beforeUses = merchant.getRecipe(idx).getUses();
-        Debugger.write("[TradeDelta] Before uses=" + beforeUses
+        Debugger.write(() -> "[TradeDelta] Before uses=" + beforeUses
                 + ", perTradeResult=" + perTradeResult
                 + ", click=" + event.getClick()
                 + ", action=" + event.getAction());
@@ -136,7 +136,7 @@ public class InventoryClickListener extends ClickableChecker implements Listener
                         final MerchantRecipe afterRec = merchant.getRecipe(idx);
                         final int afterUses = afterRec.getUses();
                         final int deltaTrades = Math.max(0, afterUses - beforeUses);
-                        Debugger.write("[TradeDelta] After uses=" + afterUses + " -> deltaTrades=" + deltaTrades);
+                        Debugger.write(() -> "[TradeDelta] After uses=" + afterUses + " -> deltaTrades=" + deltaTrades);
 
                         if (deltaTrades == 0) {
                             Debugger.write("[TradeDelta] No trades executed (delta=0). No quest progress.");
@@ -144,13 +144,13 @@ public class InventoryClickListener extends ClickableChecker implements Listener
                         }
 
                         final int amount = deltaTrades * perTradeResult;
-                        Debugger.write("[TradeDelta] Final quest amount=" + amount
+                        Debugger.write(() -> "[TradeDelta] Final quest amount=" + amount
                                 + " (deltaTrades=" + deltaTrades + " * perTradeResult=" + perTradeResult + ")");
 
                         contextBuilder.villagerTrade(villager, selectedRecipe, amount);
                         processQuestCompletion(contextBuilder.build());
                     } catch (Exception e) {
-                        Debugger.write("[TradeDelta] ERROR while reading after-uses: " + e.getMessage());
+                        Debugger.write(() -> "[TradeDelta] ERROR while reading after-uses: " + e.getMessage());
                         contextBuilder.villagerTrade(villager, selectedRecipe, perTradeResult);
                         processQuestCompletion(contextBuilder.build());
                     }
@@ -233,7 +233,7 @@ public class InventoryClickListener extends ClickableChecker implements Listener
         try {
             return x.isSimilar(y) && x.getAmount() == y.getAmount();
         } catch (Exception e) {
-            Debugger.write("[areSameItem] ERROR while checking item equality: " + e);
+            Debugger.write(() -> "[areSameItem] ERROR while checking item equality: " + e);
             return false;
         }
     }
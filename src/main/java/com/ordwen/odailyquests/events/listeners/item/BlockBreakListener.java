@@ -1,14 +1,14 @@
 package com.ordwen.odailyquests.events.listeners.item;
 
-import com.jeff_media.customblockdata.CustomBlockData;
-import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.configuration.essentials.Antiglitch;
 import com.ordwen.odailyquests.configuration.essentials.Debugger;
 import com.ordwen.odailyquests.configuration.integrations.ItemsAdderEnabled;
+import com.ordwen.odailyquests.events.antiglitch.PlacedBlocks;
 import com.ordwen.odailyquests.externs.hooks.items.KGeneratorsHook;
 import com.ordwen.odailyquests.quests.player.progression.PlayerProgressor;
 import dev.lone.itemsadder.api.CustomBlock;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.Ageable;
@@ -17,8 +17,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 
 public class BlockBreakListener extends PlayerProgressor implements Listener {
 
@@ -32,7 +30,7 @@ public class BlockBreakListener extends PlayerProgressor implements Listener {
 
         final Block block = event.getBlock();
         final Material material = block.getType();
-        Debugger.write("BlockBreakListener: onBlockBreakEvent block type: " + material.name() + ".");
+        Debugger.write(() -> "BlockBreakListener: onBlockBreakEvent block type: " + material.name() + ".");
 
         if (ItemsAdderEnabled.isEnabled()) {
             final CustomBlock customBlock = CustomBlock.byAlreadyPlaced(block);
@@ -58,7 +56,7 @@ public class BlockBreakListener extends PlayerProgressor implements Listener {
         // generic cases (classic break)
         if (canProgress(block)) {
             final Player player = event.getPlayer();
-            Debugger.write("BlockBreakListener: onBlockBreakEvent summoned by " + player.getName() + " for " + block.getType() + ".");
+            Debugger.write(() -> "BlockBreakListener: onBlockBreakEvent summoned by " + player.getName() + " for " + block.getType() + ".");
             setPlayerQuestProgression(event, player, 1, "BREAK");
         }
     }
@@ -78,8 +76,7 @@ public class BlockBreakListener extends PlayerProgressor implements Listener {
                 return false;
             }
 
-            final PersistentDataContainer pdc = new CustomBlockData(block, ODailyQuests.INSTANCE);
-            if (pdc.has(Antiglitch.PLACED_KEY, PersistentDataType.STRING)) {
+            if (PlacedBlocks.isPlaced(block)) {
                 if (KGeneratorsHook.isKGeneratorsLocation(block.getLocation())) {
                     Debugger.write("BlockBreakListener: onBlockBreakEvent processing KGenerators generator.");
                 } else {
@@ -97,7 +94,8 @@ public class BlockBreakListener extends PlayerProgressor implements Listener {
      * Handles FARMING quest progression for vertical plants (such as sugar cane, bamboo, or cactus).
      * <p>
      * This method counts how many vertically stacked blocks of the same type exist starting from
-     * the broken block, and triggers the corresponding quest progression.
+     * the broken block, within the height limits of the world, and triggers the corresponding quest progression.
+     * Blocks placed by players are excluded with a single lookup for the whole column.
      * <p>
      * It addresses the behavior in Minecraft where breaking the bottom block of a vertical plant causes
      * the rest to break or fall without triggering separate events for the upper blocks.
@@ -107,42 +105,34 @@ public class BlockBreakListener extends PlayerProgressor implements Listener {
      * @param blockFace the direction to check for vertical plant blocks (UP or DOWN)
      */
     private void handleVerticalPlant(BlockBreakEvent event, Material plantType, BlockFace blockFace) {
-        Block relativeBlock = event.getBlock();
-        int count = 0;
+        final Block block = event.getBlock();
+        final World world = block.getWorld();
+        final int step = blockFace.getModY();
+        final int limit = step > 0 ? world.getMaxHeight() - 1 : world.getMinHeight();
+
+        int height = 0;
+        int y = block.getY();
+        while (block.getRelative(0, height * step, 0).getType() == plantType) {
+            height++;
+            if (y == limit) break;
+            y += step;
+        }
 
-        while (relativeBlock.getType() == plantType) {
-            if (isValidForQuestProgression(relativeBlock)) count++;
-            relativeBlock = relativeBlock.getRelative(blockFace);
+        int placed = 0;
+        if (height > 0 && Antiglitch.isStorePlacedBlocks()) {
+            final int end = block.getY() + (height - 1) * step;
+            placed = PlacedBlocks.countPlacedInColumn(block, Math.min(block.getY(), end), Math.max(block.getY(), end));
         }
 
-        Debugger.write("BlockBreakListener: handleVerticalPlant found " + count + " vertical plant blocks.");
+        final int count = height - placed;
+
+        Debugger.write(() -> "BlockBreakListener: handleVerticalPlant found " + count + " vertical plant blocks.");
 
         if (count > 0) {
-            Debugger.write(count + " vertical plant blocks found.");
+            Debugger.write(() -> count + " vertical plant blocks found.");
             setPlayerQuestProgression(event, event.getPlayer(), count, "FARMING");
         } else {
             Debugger.write("BlockBreakListener: handleVerticalPlant cancelled due to placed blocks.");
         }
     }
-
-    /**
-     * Check if the block is valid for quest progression.
-     * This method checks if the block is a placed block and if it is valid for quest progression.
-     *
-     * @param block the block to check
-     * @return true if the block is valid for quest progression, false otherwise
-     */
-    private boolean isValidForQuestProgression(Block block) {
-        if (!Antiglitch.isStorePlacedBlocks()) {
-            return true;
-        }
-
-        final PersistentDataContainer pdc = new CustomBlockData(block, ODailyQuests.INSTANCE);
-        if (pdc.has(Antiglitch.PLACED_KEY, PersistentDataType.STRING)) {
-            Debugger.write("BlockBreakListener: isBlockCountable cancelled due to placed block.");
-            return false;
-        }
-
-        return true;
-    }
 }
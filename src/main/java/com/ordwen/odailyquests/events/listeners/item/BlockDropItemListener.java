@@ -45,7 +45,7 @@ public class BlockDropItemListener extends PlayerProgressor implements Listener
             DropQueuePushListener.setCurrentState(event.getBlockState());
         }
 
-        Debugger.write("BlockDropItemListener: onBlockDropItemEvent block data: " + dataMaterial.name() + ".");
+        Debugger.write(() -> "BlockDropItemListener: onBlockDropItemEvent block data: " + dataMaterial.name() + ".");
 
         final List<Item> drops = event.getItems();
         if (drops.isEmpty()) {
@@ -91,7 +91,7 @@ public class BlockDropItemListener extends PlayerProgressor implements Listener
             return false; // not ageable => let the normal flow handle drops
         }
 
-        Debugger.write("BlockDropItemListener: ageable block: " + dataMaterial + " age=" + ageable.getAge() + "/" + ageable.getMaximumAge());
+        Debugger.write(() -> "BlockDropItemListener: ageable block: " + dataMaterial + " age=" + ageable.getAge() + "/" + ageable.getMaximumAge());
 
         if (ageable.getAge() < ageable.getMaximumAge()) {
             Debugger.write("BlockDropItemListener: ageable not mature -> blocking progression.");
@@ -1,9 +1,8 @@
 package com.ordwen.odailyquests.events.listeners.item;
 
-import com.jeff_media.customblockdata.CustomBlockData;
-import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.configuration.essentials.Antiglitch;
 import com.ordwen.odailyquests.configuration.essentials.Debugger;
+import com.ordwen.odailyquests.events.antiglitch.PlacedBlocks;
 
 import com.ordwen.odailyquests.quests.player.progression.PlayerProgressor;
 import org.bukkit.block.Block;
@@ -46,14 +45,13 @@ public class BlockPlaceListener extends PlayerProgressor implements Listener {
         }
 
         if (valid) {
-            Debugger.write("BlockPlaceListener: onBlockPlaceEvent summoned by " + player.getName() + " for " + block.getType() + ".");
+            Debugger.write(() -> "BlockPlaceListener: onBlockPlaceEvent summoned by " + player.getName() + " for " + block.getType() + ".");
             setPlayerQuestProgression(event, player, 1, "PLACE");
         }
 
         if (Antiglitch.isStorePlacedBlocks()) {
             Debugger.write("BlockPlaceListener: onBlockPlaceEvent storing placed block.");
-            final PersistentDataContainer pdc = new CustomBlockData(block, ODailyQuests.INSTANCE);
-            pdc.set(Antiglitch.PLACED_KEY, PersistentDataType.STRING, block.getType().name());
+            PlacedBlocks.markPlaced(block);
         }
     }
 }
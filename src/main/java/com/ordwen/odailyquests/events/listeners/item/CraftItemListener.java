@@ -42,13 +42,13 @@ public class CraftItemListener extends PlayerProgressor implements Listener {
 
         final int amount = computeRecipeAmount(event, player, result);
         if (amount <= 0) {
-            Debugger.write("CraftItemEvent: amount = "  + amount + ", cancelling");
+            Debugger.write(() -> "CraftItemEvent: amount = "  + amount + ", cancelling");
             return;
         }
 
         result.setAmount(amount);
 
-        Debugger.write("CraftItemListener: onCraftItemEvent summoned by " + player.getName() + " for " + result.getType() + " x" + result.getAmount() + ".");
+        Debugger.write(() -> "CraftItemListener: onCraftItemEvent summoned by " + player.getName() + " for " + result.getType() + " x" + result.getAmount() + ".");
         setPlayerQuestProgression(event, player, result.getAmount(), "CRAFT");
     }
 
@@ -14,7 +14,7 @@ public class EnchantItemListener extends PlayerProgressor implements Listener {
     public void onEnchantItemEvent(EnchantItemEvent event) {
         if (event.isCancelled()) return;
 
-        Debugger.write("EnchantItemListener: onEnchantItemEvent summoned by " + event.getEnchanter().getName() + " for " + event.getItem().getType() + ".");
+        Debugger.write(() -> "EnchantItemListener: onEnchantItemEvent summoned by " + event.getEnchanter().getName() + " for " + event.getItem().getType() + ".");
         setPlayerQuestProgression(event, event.getEnchanter(), 1, "ENCHANT");
     }
 }
@@ -18,7 +18,7 @@ public class FurnaceExtractListener extends PlayerProgressor implements Listener
             return;
         }
 
-        Debugger.write("FurnaceExtractListener: onFurnaceExtractEvent summoned by " + event.getPlayer().getName() + " for " + event.getItemType() + ".");
+        Debugger.write(() -> "FurnaceExtractListener: onFurnaceExtractEvent summoned by " + event.getPlayer().getName() + " for " + event.getItemType() + ".");
         setPlayerQuestProgression(event, event.getPlayer(), event.getItemAmount(), "COOK");
     }
 }
@@ -32,7 +32,7 @@ public class PickupItemListener extends PlayerProgressor implements Listener {
 
             PersistentDataContainer pdc = meta.getPersistentDataContainer();
             if (pdc.has(Antiglitch.DROPPED_KEY, PersistentDataType.STRING)) {
-                Debugger.write("PickupItemListener: progression cancelled for " + player.getName() + " due to dropped item");
+                Debugger.write(() -> "PickupItemListener: progression cancelled for " + player.getName() + " due to dropped item");
 
                 pdc.remove(Antiglitch.DROPPED_KEY);
                 original.setItemMeta(meta);
@@ -43,7 +43,7 @@ public class PickupItemListener extends PlayerProgressor implements Listener {
             }
         }
 
-        Debugger.write("PickupItemListener: onPickupItemEvent summoned by " + player.getName() + " for " + original.getType() + ".");
+        Debugger.write(() -> "PickupItemListener: onPickupItemEvent summoned by " + player.getName() + " for " + original.getType() + ".");
         setPlayerQuestProgression(event, player, original.getAmount(), "PICKUP");
     }
 }
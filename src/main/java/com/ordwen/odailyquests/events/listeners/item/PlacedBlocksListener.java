@@ -0,0 +1,137 @@
+package com.ordwen.odailyquests.events.listeners.item;
+
+import com.ordwen.odailyquests.ODailyQuests;
+import com.ordwen.odailyquests.configuration.essentials.Antiglitch;
+import com.ordwen.odailyquests.events.antiglitch.PlacedBlocks;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldSaveEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the {@link PlacedBlocks} registry in sync with the world: placed blocks are forgotten when they are removed,
+ * moved along with pistons, and persisted when their chunk is saved or unloaded.
+ */
+public class PlacedBlocksListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreakEvent(BlockBreakEvent event) {
+        if (!Antiglitch.isStorePlacedBlocks()) return;
+
+        /* forgotten on the next tick, the drops of the block are checked after this event */
+        final Block block = event.getBlock();
+        ODailyQuests.morePaperLib.scheduling().regionSpecificScheduler(block.getLocation()).run(() -> {
+            final Material placed = PlacedBlocks.getPlacedType(block);
+            if (placed != null && block.getType() != placed) {
+                PlacedBlocks.unmark(block);
+            }
+        });
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplodeEvent(BlockExplodeEvent event) {
+        unmarkAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplodeEvent(EntityExplodeEvent event) {
+        unmarkAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurnEvent(BlockBurnEvent event) {
+        if (Antiglitch.isStorePlacedBlocks()) {
+            PlacedBlocks.unmark(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFadeEvent(BlockFadeEvent event) {
+        if (Antiglitch.isStorePlacedBlocks()) {
+            PlacedBlocks.unmark(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecayEvent(LeavesDecayEvent event) {
+        if (Antiglitch.isStorePlacedBlocks()) {
+            PlacedBlocks.unmark(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlockEvent(EntityChangeBlockEvent event) {
+        if (Antiglitch.isStorePlacedBlocks()) {
+            PlacedBlocks.unmark(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPistonExtendEvent(BlockPistonExtendEvent event) {
+        moveAll(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPistonRetractEvent(BlockPistonRetractEvent event) {
+        moveAll(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnloadEvent(ChunkUnloadEvent event) {
+        PlacedBlocks.unloadChunk(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldSaveEvent(WorldSaveEvent event) {
+        PlacedBlocks.saveWorld(event.getWorld());
+    }
+
+    private static void unmarkAll(List<Block> blocks) {
+        if (!Antiglitch.isStorePlacedBlocks()) return;
+
+        for (Block block : blocks) {
+            PlacedBlocks.unmark(block);
+        }
+    }
+
+    /**
+     * Move the placed blocks pushed or pulled by a piston. All blocks are removed first, since a block can be moved
+     * to the position of another moved block.
+     *
+     * @param blocks    the moved blocks.
+     * @param direction the direction the blocks are moved in.
+     */
+    private static void moveAll(List<Block> blocks, BlockFace direction) {
+        if (!Antiglitch.isStorePlacedBlocks() || blocks.isEmpty()) return;
+
+        final List<Block> targets = new ArrayList<>();
+        final List<Material> materials = new ArrayList<>();
+        for (Block block : blocks) {
+            final Material material = PlacedBlocks.unmark(block);
+            if (material != null) {
+                targets.add(block.getRelative(direction));
+                materials.add(material);
+            }
+        }
+
+        for (int i = 0; i < targets.size(); i++) {
+            PlacedBlocks.markPlaced(targets.get(i), materials.get(i));
+        }
+    }
+}
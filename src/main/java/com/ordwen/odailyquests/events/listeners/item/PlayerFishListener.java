@@ -14,14 +14,14 @@ public class PlayerFishListener extends PlayerProgressor implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerFishEvent(PlayerFishEvent event) {
         if (event.isCancelled()) {
-            Debugger.write("PlayerFishListener: onPlayerFishEvent cancelled for " + event.getPlayer().getName() + ".");
+            Debugger.write(() -> "PlayerFishListener: onPlayerFishEvent cancelled for " + event.getPlayer().getName() + ".");
             return;
         }
 
-        Debugger.write("PlayerFishListener: current state: " + event.getState());
+        Debugger.write(() -> "PlayerFishListener: current state: " + event.getState());
 
         if (event.getState() == PlayerFishEvent.State.CAUGHT_FISH && event.getCaught() instanceof Item item) {
-            Debugger.write("PlayerFishListener: onPlayerFishEvent summoned by " + event.getPlayer().getName() + " for " + item.getItemStack().getType() + ".");
+            Debugger.write(() -> "PlayerFishListener: onPlayerFishEvent summoned by " + event.getPlayer().getName() + " for " + item.getItemStack().getType() + ".");
             setPlayerQuestProgression(event, event.getPlayer(), item.getItemStack().getAmount(), "FISH");
         }
     }
@@ -15,7 +15,7 @@ public class PlayerItemConsumeListener extends PlayerProgressor implements Liste
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onItemConsumeEvent(PlayerItemConsumeEvent event) {
         if (event.isCancelled()) return;
-        Debugger.write("PlayerItemConsumeListener: onItemConsumeEvent summoned by " + event.getPlayer().getName() + " for " + event.getItem().getType() + ".");
+        Debugger.write(() -> "PlayerItemConsumeListener: onItemConsumeEvent summoned by " + event.getPlayer().getName() + " for " + event.getItem().getType() + ".");
         setPlayerQuestProgression(event, event.getPlayer(), 1, "CONSUME");
     }
 
@@ -16,7 +16,7 @@ public class ProjectileLaunchListener extends PlayerProgressor implements Listen
         if (event.isCancelled()) return;
 
         if (event.getEntity().getShooter() instanceof Player player) {
-            Debugger.write("ProjectileLaunchListener: onProjectileLaunch summoned by " + player.getName() + " for " + event.getEntity().getType() + ".");
+            Debugger.write(() -> "ProjectileLaunchListener: onProjectileLaunch summoned by " + player.getName() + " for " + event.getEntity().getType() + ".");
             setPlayerQuestProgression(event, player, 1, "LAUNCH");
         }
     }
@@ -51,7 +51,7 @@ public class SmithItemListener extends PlayerProgressor implements Listener {
 
         result.setAmount(recipeAmount);
 
-        Debugger.write("SmithItemListener: onSmithItemEvent summoned by " + player.getName() + " for " + result.getType() + ".");
+        Debugger.write(() -> "SmithItemListener: onSmithItemEvent summoned by " + player.getName() + " for " + result.getType() + ".");
         setPlayerQuestProgression(event, player, result.getAmount(), "CRAFT");
     }
 
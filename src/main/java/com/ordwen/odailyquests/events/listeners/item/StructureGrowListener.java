@@ -1,16 +1,13 @@
 package com.ordwen.odailyquests.events.listeners.item;
 
-import com.jeff_media.customblockdata.CustomBlockData;
-import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.configuration.essentials.Antiglitch;
 import com.ordwen.odailyquests.configuration.essentials.Debugger;
+import com.ordwen.odailyquests.events.antiglitch.PlacedBlocks;
 import org.bukkit.block.Block;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.world.StructureGrowEvent;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 
 public class StructureGrowListener implements Listener {
 
@@ -26,10 +23,8 @@ public class StructureGrowListener implements Listener {
             Debugger.write("StructureGrowListener: onStructureGrowEvent checking for placed blocks.");
             for (int i = 0; i < event.getBlocks().size(); i++) {
                 final Block block = event.getBlocks().get(i).getBlock();
-                final PersistentDataContainer pdc = new CustomBlockData(block, ODailyQuests.INSTANCE);
-                if (pdc.has(Antiglitch.PLACED_KEY, PersistentDataType.STRING)) {
-                    Debugger.write("StructureGrowListener: block at coordinates " + block.getX() + ", " + block.getY() + ", " + block.getZ() + " is a placed block. Removing metadataKey.");
-                    block.removeMetadata("odailyquests:placed", ODailyQuests.INSTANCE);
+                if (PlacedBlocks.unmark(block) != null) {
+                    Debugger.write(() -> "StructureGrowListener: block at coordinates " + block.getX() + ", " + block.getY() + ", " + block.getZ() + " was a placed block. Removed from placed blocks.");
                 }
             }
             Debugger.write("StructureGrowListener: onStructureGrowEvent placed block check complete.");
@@ -23,7 +23,7 @@ public class CraftMMOItemListener extends PlayerProgressor implements Listener {
             return;
         }
 
-        Debugger.write("CraftMMOItemEvent: onCraftMMOItemEvent summoned by " + player.getName() + " for " + result.getType() + " x" + result.getAmount());
+        Debugger.write(() -> "CraftMMOItemEvent: onCraftMMOItemEvent summoned by " + player.getName() + " for " + result.getType() + " x" + result.getAmount());
         setPlayerQuestProgression(event, player, result.getAmount(), "CRAFT");
     }
 }
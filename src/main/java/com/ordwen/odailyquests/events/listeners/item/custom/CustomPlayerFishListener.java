@@ -11,14 +11,14 @@ public class CustomPlayerFishListener extends PlayerProgressor implements Listen
     @EventHandler
     public void onMMOFish(CustomPlayerFishEvent event) {
         if (event.isCancelled()) {
-            Debugger.write("CustomPlayerFishListener: onMMOFish cancelled for " + event.getPlayer().getName());
+            Debugger.write(() -> "CustomPlayerFishListener: onMMOFish cancelled for " + event.getPlayer().getName());
             return;
         }
 
-        Debugger.write("CustomPlayerFishListener: onMMOFish for " + event.getPlayer().getName());
+        Debugger.write(() -> "CustomPlayerFishListener: onMMOFish for " + event.getPlayer().getName());
 
         if (event.getCaught() != null) {
-            Debugger.write("CustomPlayerFishListener: onMMOFish summoned by " + event.getPlayer().getName() + " for " + event.getCaught().getType());
+            Debugger.write(() -> "CustomPlayerFishListener: onMMOFish summoned by " + event.getPlayer().getName() + " for " + event.getCaught().getType());
             setPlayerQuestProgression(event, event.getPlayer(), event.getCaught().getAmount(), "FISH");
         }
     }
@@ -39,7 +39,7 @@ public class DropQueuePushListener extends PlayerProgressor implements Listener
         final BlockData data = currentState.getBlockData();
         final Material dataMaterial = data.getMaterial();
 
-        Debugger.write("DropQueuePushListener: onDropQueuePush event triggered by player: " + player.getName() + ".");
+        Debugger.write(() -> "DropQueuePushListener: onDropQueuePush event triggered by player: " + player.getName() + ".");
 
         final Collection<? extends ItemStack> drops = event.getItems();
         if (drops.isEmpty()) {
@@ -74,7 +74,7 @@ public class DropQueuePushListener extends PlayerProgressor implements Listener
             return false; // not ageable => let the normal flow handle drops
         }
 
-        Debugger.write("DropQueuePushListener: ageable block: " + dataMaterial + " age=" + ageable.getAge() + "/" + ageable.getMaximumAge());
+        Debugger.write(() -> "DropQueuePushListener: ageable block: " + dataMaterial + " age=" + ageable.getAge() + "/" + ageable.getMaximumAge());
 
         if (ageable.getAge() < ageable.getMaximumAge()) {
             Debugger.write("DropQueuePushListener: ageable block is not mature, blocking drop handling.");
@@ -95,7 +95,7 @@ public class DropQueuePushListener extends PlayerProgressor implements Listener
         Debugger.write("DropQueuePushListener: handleDrops summoned.");
         for (ItemStack item : drops) {
             final Material droppedMaterial = item.getType();
-            Debugger.write("DropQueuePushListener: handling drop: " + droppedMaterial + ".");
+            Debugger.write(() -> "DropQueuePushListener: handling drop: " + droppedMaterial + ".");
 
             FarmingQuest.setCurrent(new ItemStack(droppedMaterial));
             setPlayerQuestProgression(event, event.getPlayer(), item.getAmount(), "FARMING");
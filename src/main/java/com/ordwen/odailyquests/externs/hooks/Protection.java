@@ -15,13 +15,20 @@ import com.sk89q.worldguard.internal.platform.WorldGuardPlatform;
 import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.flags.Flags;
 import com.sk89q.worldguard.protection.flags.StateFlag;
-import com.sk89q.worldguard.protection.regions.RegionContainer;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionQuery;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public class Protection {
 
@@ -29,6 +36,31 @@ public class Protection {
 
     private static boolean isWorldguardEnabled = false;
     private static WorldGuardPlatform wgPlatform = null;
+    private static RegionQuery wgQuery = null;
+
+    /* results of the checks made while a single event is dispatched to the quests, see openScope */
+    private static final ThreadLocal<CheckScope> SCOPE = new ThreadLocal<>();
+
+    /**
+     * A build check, by player, block position and flag.
+     */
+    private record BuildCheck(UUID player, UUID world, int x, int y, int z, String flag) {
+    }
+
+    /**
+     * A player position, at block precision.
+     */
+    private record PlayerPosition(UUID player, UUID world, int x, int y, int z) {
+    }
+
+    /**
+     * Results memoized for the duration of a scope.
+     */
+    private static final class CheckScope {
+        private int depth;
+        private final Map<BuildCheck, Boolean> buildChecks = new HashMap<>();
+        private final Map<PlayerPosition, Set<String>> regions = new HashMap<>();
+    }
 
     private static boolean isPlotsquaredEnabled = false;
 
@@ -50,6 +82,33 @@ public class Protection {
         }
     }
 
+    /**
+     * Open a check scope on the current thread. Until the scope is closed, the results of {@link #canBuild} and
+     * {@link #checkRegion} are memoized by player and position, so that several quests reacting to the same event
+     * share the same protection queries.
+     * <p>
+     * Scopes can be nested, the results are kept until the outermost scope is closed.
+     * Each call must be followed by a call to {@link #closeScope()}, in a finally block.
+     */
+    public static void openScope() {
+        CheckScope scope = SCOPE.get();
+        if (scope == null) {
+            scope = new CheckScope();
+            SCOPE.set(scope);
+        }
+        scope.depth++;
+    }
+
+    /**
+     * Close the check scope opened on the current thread, dropping the memoized results if it is the outermost one.
+     */
+    public static void closeScope() {
+        final CheckScope scope = SCOPE.get();
+        if (scope != null && --scope.depth <= 0) {
+            SCOPE.remove();
+        }
+    }
+
     /**
      * Check if Towny is enabled.
      *
@@ -73,6 +132,22 @@ public class Protection {
      */
     private static void setWorldGuardPlatform(WorldGuardPlatform platform) {
         wgPlatform = platform;
+        wgQuery = null;
+    }
+
+    /**
+     * Get the WorldGuard region query, created on first use. A query holds no state of its own and relies on the
+     * region container cache, so a single instance is reused for every check.
+     *
+     * @return the region query.
+     */
+    private static RegionQuery getRegionQuery() {
+        RegionQuery query = wgQuery;
+        if (query == null) {
+            query = wgPlatform.getRegionContainer().createQuery();
+            wgQuery = query;
+        }
+        return query;
     }
 
     /**
@@ -122,6 +197,24 @@ public class Protection {
             return true;
         }
 
+        final CheckScope scope = SCOPE.get();
+        if (scope == null) {
+            return checkHooks(player, block, flag);
+        }
+
+        final BuildCheck check = new BuildCheck(player.getUniqueId(), block.getWorld().getUID(), block.getX(), block.getY(), block.getZ(), flag);
+        final Boolean known = scope.buildChecks.get(check);
+        if (known != null) {
+            Debugger.write(() -> "Protection: canBuild result reused: " + known);
+            return known;
+        }
+
+        final boolean canBuild = checkHooks(player, block, flag);
+        scope.buildChecks.put(check, canBuild);
+        return canBuild;
+    }
+
+    private static boolean checkHooks(Player player, Block block, String flag) {
         return checkTowny(player, block)
                 && checkWg(player, block, flag)
                 && checkPlotSquared(player, block);
@@ -170,7 +263,7 @@ public class Protection {
             return true;
         }
 
-        final RegionQuery query = wgPlatform.getRegionContainer().createQuery();
+        final RegionQuery query = getRegionQuery();
         final StateFlag stateFlag = switch (flag) {
             case "BLOCK_BREAK" -> Flags.BLOCK_BREAK;
             case "BLOCK_PLACE" -> Flags.BLOCK_PLACE;
@@ -236,22 +329,41 @@ public class Protection {
         Debugger.write("Protection: checkRegion summoned.");
 
         final Location location = player.getLocation();
-        if (location.getWorld() == null) return true;
-
-        final com.sk89q.worldedit.util.Location adaptedLocation = BukkitAdapter.adapt(location);
-
-        final RegionContainer container = wgPlatform.getRegionContainer();
-        final RegionQuery query = container.createQuery();
-        final ApplicableRegionSet regions = query.getApplicableRegions(adaptedLocation);
+        final World world = location.getWorld();
+        if (world == null) return true;
+
+        final Set<String> regions;
+        final CheckScope scope = SCOPE.get();
+        if (scope == null) {
+            regions = getRegionIds(location);
+        } else {
+            final PlayerPosition position = new PlayerPosition(player.getUniqueId(), world.getUID(),
+                    location.getBlockX(), location.getBlockY(), location.getBlockZ());
+            regions = scope.regions.computeIfAbsent(position, k -> getRegionIds(location));
+        }
 
         for (String region : requiredRegions) {
-            if (regions.size() == 0) return false;
-
-            if (regions.getRegions().stream().noneMatch(r -> r.getId().equalsIgnoreCase(region))) {
+            if (!regions.contains(region.toLowerCase(Locale.ROOT))) {
                 return false;
             }
         }
 
         return true;
     }
+
+    /**
+     * Get the identifiers of the regions applicable at a location.
+     *
+     * @param location the location
+     * @return the lower-cased identifiers of the regions
+     */
+    private static Set<String> getRegionIds(Location location) {
+        final ApplicableRegionSet applicable = getRegionQuery().getApplicableRegions(BukkitAdapter.adapt(location));
+
+        final Set<String> ids = new HashSet<>();
+        for (ProtectedRegion region : applicable.getRegions()) {
+            ids.add(region.getId().toLowerCase(Locale.ROOT));
+        }
+        return ids;
+    }
 }
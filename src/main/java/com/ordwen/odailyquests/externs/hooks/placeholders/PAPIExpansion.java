@@ -1,6 +1,5 @@
 package com.ordwen.odailyquests.externs.hooks.placeholders;
 
-import com.ordwen.odailyquests.api.ODailyQuestsAPI;
 import com.ordwen.odailyquests.commands.interfaces.playerinterface.PlayerQuestsInterface;
 import com.ordwen.odailyquests.configuration.essentials.CategoryGroupsLoader;
 import com.ordwen.odailyquests.configuration.integrations.PapiPlaceholders;
@@ -12,7 +11,9 @@ import com.ordwen.odailyquests.quests.player.QuestsManager;
 import com.ordwen.odailyquests.quests.player.progression.Progression;
 import com.ordwen.odailyquests.quests.player.progression.QuestLoaderUtils;
 import com.ordwen.odailyquests.quests.types.AbstractQuest;
+import com.ordwen.odailyquests.tools.BoundedCache;
 import com.ordwen.odailyquests.tools.DisplayName;
+import com.ordwen.odailyquests.tools.Pair;
 import com.ordwen.odailyquests.tools.TextFormatter;
 import com.ordwen.odailyquests.tools.QuestPlaceholders;
 import com.ordwen.odailyquests.tools.TimeRemain;
@@ -23,7 +24,6 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
-import java.util.function.Function;
 
 public class PAPIExpansion extends PlaceholderExpansion {
 
@@ -32,11 +32,22 @@ public class PAPIExpansion extends PlaceholderExpansion {
     private static final String INVALID_PLACEHOLDER = ChatColor.RED + "Invalid placeholder.";
     private static final String INVALID_CATEGORY = ChatColor.RED + "Invalid category.";
 
+    /* upper bound of the dispatch cache, placeholders are usually a small set taken from configuration files */
+    private static final int MAX_CACHED_PARAMS = 1024;
+
     private final PlayerQuestsInterface playerQuestsInterface;
 
+    private final List<Map.Entry<String, Placeholder>> placeholders;
+    private final Placeholder categoryPlaceholder = new Placeholder((p, player, playerQuests) -> getQuestNameByCategory(p), false);
+    private final BoundedCache<String, Placeholder> placeholdersByParams = new BoundedCache<>(MAX_CACHED_PARAMS);
+
+    /* rendered values, reused until the player quests change */
+    private final PlaceholderCache cache = new PlaceholderCache();
+
     public PAPIExpansion(PlayerQuestsInterface playerQuestsInterface) {
         TextFormatter.setPlaceholderAPIEnabled(true);
         this.playerQuestsInterface = playerQuestsInterface;
+        this.placeholders = buildPlaceholders();
     }
 
     @NotNull
@@ -96,41 +107,82 @@ public class PAPIExpansion extends PlaceholderExpansion {
 
     @Override
     public String onRequest(OfflinePlayer offlinePlayer, @NotNull String params) {
-        final String playerName = offlinePlayer.getName();
-        if (playerName == null) return null;
-
-        if (!QuestsManager.getActiveQuests().containsKey(playerName)) return null;
-
         final Player player = offlinePlayer.getPlayer();
         if (player == null) return null;
 
+        final PlayerQuests playerQuests = QuestsManager.getActiveQuestsRegistry().get(player.getUniqueId());
+        if (playerQuests == null) return null;
+
         if (QuestLoaderUtils.isTimeToRenew(player, QuestsManager.getActiveQuests())) return null;
 
-        final PlayerQuests playerQuests = ODailyQuestsAPI.getPlayerQuests(playerName);
-        if (playerQuests == null) return null;
+        final Placeholder placeholder = getPlaceholder(params);
+        final long ttl = placeholder.timeBased() ? PapiPlaceholders.getCacheTtl() : -1L;
+        return cache.get(playerQuests, params, ttl, () -> placeholder.resolver().resolve(params, player, playerQuests));
+    }
 
-        final Map<String, Function<String, String>> placeholders = new HashMap<>();
-        placeholders.put("total", placeholder -> getTotalAchievedQuests(placeholder, playerQuests));
-        placeholders.put("achieved", placeholder -> String.valueOf(playerQuests.getAchievedQuests()));
-        placeholders.put("drawin", placeholder -> getTimeRemaining(placeholder, playerName));
-        placeholders.put("interface", placeholder -> getInterfaceMessage(placeholder, player, playerQuests));
-        placeholders.put("progressbar", placeholder -> getProgressBar(placeholder, playerQuests));
-        placeholders.put("progress", placeholder -> String.valueOf(getPlayerQuestProgression(placeholder, playerQuests)));
-        placeholders.put("name", placeholder -> getPlayerQuestName(placeholder, player, playerQuests));
-        placeholders.put("desc", placeholder -> getPlayerQuestDescription(placeholder, player, playerQuests));
-        placeholders.put("iscompleted", placeholder -> isPlayerQuestCompleted(placeholder, playerQuests));
-        placeholders.put("status", placeholder -> getQuestStatus(placeholder, playerQuests));
-        placeholders.put("requiredamount", placeholder -> getPlayerQuestRequiredAmount(placeholder, playerQuests));
-        placeholders.put("requireddisplayname", placeholder -> getPlayerQuestDisplayName(placeholder, playerQuests));
-        placeholders.put("achieved_group", placeholder -> getAchievedForGroup(placeholder, playerQuests));
-
-        for (Map.Entry<String, Function<String, String>> entry : placeholders.entrySet()) {
+    /**
+     * Resolves the value of a placeholder for a player.
+     */
+    @FunctionalInterface
+    private interface Resolver {
+        String resolve(String params, Player player, PlayerQuests playerQuests);
+    }
+
+    /**
+     * A placeholder resolver.
+     *
+     * @param resolver  computes the placeholder value
+     * @param timeBased whether the value may change over time without any change of the player quests
+     *                  (remaining time, or text that may contain placeholders of other plugins)
+     */
+    private record Placeholder(Resolver resolver, boolean timeBased) {
+    }
+
+    /**
+     * Builds the placeholder prefixes and their resolvers, longest prefix first,
+     * so that {@code progressbar} is matched before {@code progress}.
+     *
+     * @return the ordered prefixes and resolvers
+     */
+    private List<Map.Entry<String, Placeholder>> buildPlaceholders() {
+        final Map<String, Placeholder> byPrefix = new HashMap<>();
+        byPrefix.put("total", new Placeholder((p, player, playerQuests) -> getTotalAchievedQuests(p, playerQuests), false));
+        byPrefix.put("achieved", new Placeholder((p, player, playerQuests) -> String.valueOf(playerQuests.getAchievedQuests()), false));
+        byPrefix.put("drawin", new Placeholder((p, player, playerQuests) -> getTimeRemaining(p, player.getName()), true));
+        byPrefix.put("interface", new Placeholder(this::getInterfaceMessage, true));
+        byPrefix.put("progressbar", new Placeholder((p, player, playerQuests) -> getProgressBar(p, playerQuests), false));
+        byPrefix.put("progress", new Placeholder((p, player, playerQuests) -> String.valueOf(getPlayerQuestProgression(p, playerQuests)), false));
+        byPrefix.put("name", new Placeholder(this::getPlayerQuestName, true));
+        byPrefix.put("desc", new Placeholder(this::getPlayerQuestDescription, true));
+        byPrefix.put("iscompleted", new Placeholder((p, player, playerQuests) -> isPlayerQuestCompleted(p, playerQuests), false));
+        byPrefix.put("status", new Placeholder((p, player, playerQuests) -> getQuestStatus(p, playerQuests), false));
+        byPrefix.put("requiredamount", new Placeholder((p, player, playerQuests) -> getPlayerQuestRequiredAmount(p, playerQuests), false));
+        byPrefix.put("requireddisplayname", new Placeholder((p, player, playerQuests) -> getPlayerQuestDisplayName(p, playerQuests), false));
+        byPrefix.put("achieved_group", new Placeholder((p, player, playerQuests) -> getAchievedForGroup(p, playerQuests), false));
+
+        final List<Map.Entry<String, Placeholder>> ordered = new ArrayList<>(byPrefix.entrySet());
+        ordered.sort(Comparator.comparingInt((Map.Entry<String, Placeholder> entry) -> entry.getKey().length()).reversed());
+        return List.copyOf(ordered);
+    }
+
+    /**
+     * Gets the resolver of a placeholder. The resolver is looked up once per distinct placeholder,
+     * then cached. Placeholders that match no prefix are resolved as category placeholders.
+     *
+     * @param params the placeholder parameters
+     * @return the placeholder to use
+     */
+    private Placeholder getPlaceholder(String params) {
+        return placeholdersByParams.get(params, this::findPlaceholder);
+    }
+
+    private Placeholder findPlaceholder(String params) {
+        for (Map.Entry<String, Placeholder> entry : placeholders) {
             if (params.startsWith(entry.getKey())) {
-                return entry.getValue().apply(params);
+                return entry.getValue();
             }
         }
-
-        return getQuestNameByCategory(params);
+        return categoryPlaceholder;
     }
 
     /**
@@ -145,24 +197,17 @@ public class PAPIExpansion extends PlaceholderExpansion {
     /**
      * Retrieves the quest and its progression by a zero-based index.
      * <p>
-     * The index is resolved using the iteration order of the underlying
-     * {@link java.util.LinkedHashMap}, ensuring stable and deterministic ordering.
+     * The index follows the iteration order of the player's quests, see {@link PlayerQuests#getQuestAt(int)}.
      *
      * @param playerQuests the player's quests container
      * @param index0       zero-based quest index
      * @return an {@link Optional} containing the quest context, or empty if the index is out of bounds
      */
     private Optional<QuestCtx> getQuestCtxByIndex(PlayerQuests playerQuests, int index0) {
-        if (index0 < 0) return Optional.empty();
+        final Pair<AbstractQuest, Progression> entry = playerQuests.getQuestAt(index0);
+        if (entry == null) return Optional.empty();
 
-        int i = 0;
-        for (Map.Entry<AbstractQuest, Progression> entry : playerQuests.getQuests().entrySet()) {
-            if (i == index0) {
-                return Optional.of(new QuestCtx(entry.getKey(), entry.getValue()));
-            }
-            i++;
-        }
-        return Optional.empty();
+        return Optional.of(new QuestCtx(entry.first(), entry.second()));
     }
 
     /**
@@ -357,7 +402,7 @@ public class PAPIExpansion extends PlaceholderExpansion {
         return getQuestCtxByIndex(playerQuests, idx0.getAsInt())
                 .map(ctx -> {
                     final AbstractQuest quest = ctx.quest();
-                    final Progression progression = playerQuests.getQuests().get(quest);
+                    final Progression progression = ctx.progression();
                     return QuestPlaceholders.replaceQuestPlaceholders(quest.getQuestName(), player, quest, progression, playerQuests, playerQuestsInterface.getQuestStatus(progression, player));
                 })
                 .orElse(INVALID_INDEX);
@@ -403,7 +448,7 @@ public class PAPIExpansion extends PlaceholderExpansion {
                         return INVALID_LINE;
                     }
 
-                    final Progression progression = playerQuests.getQuests().get(quest);
+                    final Progression progression = ctx.progression();
                     return QuestPlaceholders.replaceQuestPlaceholders(desc.get(lineIndex0), player, quest, progression, playerQuests, playerQuestsInterface.getQuestStatus(progression, player));
                 })
                 .orElse(INVALID_INDEX);
@@ -438,8 +483,7 @@ public class PAPIExpansion extends PlaceholderExpansion {
 
         return getQuestCtxByIndex(playerQuests, idx0.getAsInt())
                 .map(ctx -> {
-                    final AbstractQuest quest = ctx.quest();
-                    final Progression progression = playerQuests.getQuests().get(quest);
+                    final Progression progression = ctx.progression();
                     return QuestPlaceholders.replaceProgressPlaceholders("%progressBar%", progression.getAdvancement(), progression.getRequiredAmount(), progression.getRewardAmount());
                 })
                 .orElse(INVALID_INDEX);
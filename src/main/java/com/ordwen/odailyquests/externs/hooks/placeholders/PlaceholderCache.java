@@ -0,0 +1,56 @@
+package com.ordwen.odailyquests.externs.hooks.placeholders;
+
+import com.ordwen.odailyquests.quests.player.PlayerQuests;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of rendered placeholder values, by player quests and placeholder.
+ * <p>
+ * A value stays valid as long as the {@link PlayerQuests#getVersion() version} of the player quests it has been
+ * rendered from does not change. Time-based values also expire after a fixed delay. Renewing the quests of a player
+ * registers a new {@link PlayerQuests} instance, so values rendered from the previous quests are never returned.
+ * Entries are weakly referenced by their {@link PlayerQuests}, and disappear when the player quests are unloaded.
+ */
+public class PlaceholderCache {
+
+    /**
+     * A rendered value, with the player quests version it has been rendered from.
+     */
+    private record CachedValue(String value, long version, long expiresAt) {
+    }
+
+    private final Map<PlayerQuests, Map<String, CachedValue>> valuesByPlayer = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Get the cached value of a placeholder, or render and cache it.
+     *
+     * @param playerQuests the player quests the value depends on.
+     * @param params       the placeholder parameters.
+     * @param ttlMillis    time to live of the value in milliseconds, or a negative value if it only depends on the player quests.
+     * @param renderer     renders the value when it is missing or outdated.
+     * @return the placeholder value.
+     */
+    public String get(PlayerQuests playerQuests, String params, long ttlMillis, Supplier<String> renderer) {
+        if (ttlMillis == 0) return renderer.get();
+
+        final long version = playerQuests.getVersion();
+        final long now = ttlMillis > 0 ? System.currentTimeMillis() : 0L;
+
+        final Map<String, CachedValue> values = valuesByPlayer.computeIfAbsent(playerQuests, k -> new ConcurrentHashMap<>());
+        final CachedValue cached = values.get(params);
+        if (cached != null && cached.version() == version && (cached.expiresAt() == 0L || now < cached.expiresAt())) {
+            return cached.value();
+        }
+
+        final String value = renderer.get();
+        if (value != null) {
+            values.put(params, new CachedValue(value, version, ttlMillis > 0 ? now + ttlMillis : 0L));
+        }
+        return value;
+    }
+}
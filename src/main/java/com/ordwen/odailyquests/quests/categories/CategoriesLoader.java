@@ -7,17 +7,22 @@ import com.ordwen.odailyquests.configuration.essentials.QuestsPerCategory;
 import com.ordwen.odailyquests.configuration.essentials.SafetyMode;
 import com.ordwen.odailyquests.files.implementations.QuestsFiles;
 import com.ordwen.odailyquests.quests.QuestsLoader;
+import com.ordwen.odailyquests.quests.types.AbstractQuest;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.FileConfiguration;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class CategoriesLoader {
 
     private static final Map<String, Category> categories = new LinkedHashMap<>();
+    private static final Set<String> loadedQuestTypes = new HashSet<>();
 
     private final QuestsLoader questsLoader = new QuestsLoader();
 
@@ -26,6 +31,7 @@ public class CategoriesLoader {
      */
     public void loadCategories() {
         categories.clear();
+        loadedQuestTypes.clear();
 
         final boolean safetyMode = SafetyMode.isSafetyModeEnabled();
 
@@ -46,6 +52,10 @@ public class CategoriesLoader {
             }
 
             questsLoader.loadQuests(configFile, category, categoryName);
+            for (AbstractQuest quest : category) {
+                loadedQuestTypes.add(quest.getQuestType());
+            }
+
             if (!validateCategory(category, requiredAmount, categoryName, safetyMode, setting.isDynamic())) {
                 Bukkit.getPluginManager().disablePlugin(ODailyQuests.INSTANCE);
                 return;
@@ -124,4 +134,13 @@ public class CategoriesLoader {
     public static boolean hasCategory(String categoryName) {
         return categories.containsKey(categoryName);
     }
+
+    /**
+     * Get the types of all loaded quests, across every category.
+     *
+     * @return an unmodifiable view of the loaded quest types.
+     */
+    public static Set<String> getLoadedQuestTypes() {
+        return Collections.unmodifiableSet(loadedQuestTypes);
+    }
 }
@@ -1,6 +1,9 @@
 package com.ordwen.odailyquests.quests.conditions.placeholder;
 
 import com.ordwen.odailyquests.quests.conditions.ConditionOperator;
+import com.ordwen.odailyquests.tools.TextFormatter;
+
+import java.time.Duration;
 
 /**
  * Represents a single placeholder-based condition that can be evaluated
@@ -14,17 +17,47 @@ import com.ordwen.odailyquests.quests.conditions.ConditionOperator;
  *   <li>and an optional error message to display if the condition fails.</li>
  * </ul>
  *
- * <p>Instances of this record are immutable.
+ * <p>Instances of this record are immutable. When the expected value contains no placeholder, it is parsed once
+ * as a number and as a duration, so numeric and duration comparisons do not parse it again on each evaluation.
  *
  * @param placeholder       the placeholder expression to evaluate (e.g. {@code "%player_level%"})
  * @param conditionOperator the type of condition to check (e.g. equals, greater than, etc.)
  * @param expectedValue     the expected value to compare against
  * @param errorMessage      the message to display if the condition fails (may be null or empty)
+ * @param expectedNumber    the expected value parsed as a number, or null if it is dynamic or not a number
+ * @param expectedDuration  the expected value parsed as a duration, or null if it is dynamic or not a duration
  */
 public record PlaceholderCondition(
         String placeholder,
         ConditionOperator conditionOperator,
         String expectedValue,
-        String errorMessage
+        String errorMessage,
+        Float expectedNumber,
+        Duration expectedDuration
 ) {
+
+    /**
+     * Creates a condition, pre-parsing its expected value when it is static.
+     *
+     * @param placeholder       the placeholder expression to evaluate
+     * @param conditionOperator the type of condition to check
+     * @param expectedValue     the expected value to compare against
+     * @param errorMessage      the message to display if the condition fails (may be null or empty)
+     */
+    public PlaceholderCondition(String placeholder, ConditionOperator conditionOperator, String expectedValue, String errorMessage) {
+        this(placeholder, conditionOperator, expectedValue, errorMessage,
+                PlaceholderConditionEvaluator.tryParseNumber(staticValue(expectedValue)),
+                PlaceholderConditionEvaluator.tryParseDuration(staticValue(expectedValue)));
+    }
+
+    /**
+     * Gets the formatted form of a value that contains no placeholder.
+     *
+     * @param value the raw value
+     * @return the formatted value, or null if the value contains placeholders
+     */
+    private static String staticValue(String value) {
+        if (value == null || value.indexOf('%') >= 0) return null;
+        return TextFormatter.format(value);
+    }
 }
@@ -63,6 +63,71 @@ public final class PlaceholderConditionEvaluator {
         }
     }
 
+    /**
+     * Evaluates a condition against a resolved placeholder value. The expected value pre-parsed by the condition
+     * is used when available, otherwise the provided expected value is parsed.
+     *
+     * @param condition        the condition to evaluate
+     * @param placeholderValue the actual placeholder value (string form)
+     * @param expectedValue    the expected value (string form), used when the condition holds no pre-parsed value
+     * @return a result indicating whether the condition matched, failed, or
+     *         could not be evaluated due to invalid input format
+     */
+    public static PlaceholderConditionResult evaluate(PlaceholderCondition condition, String placeholderValue, String expectedValue) {
+        final ConditionOperator type = condition.conditionOperator();
+        try {
+            return switch (type) {
+                case GREATER_THAN,
+                     GREATER_THAN_OR_EQUALS,
+                     LESS_THAN,
+                     LESS_THAN_OR_EQUALS -> condition.expectedNumber() == null
+                        ? evaluate(type, placeholderValue, expectedValue)
+                        : compareNumbers(type, parseNumber(placeholderValue), condition.expectedNumber());
+
+                case DURATION_GREATER_THAN,
+                     DURATION_GREATER_THAN_OR_EQUALS,
+                     DURATION_LESS_THAN,
+                     DURATION_LESS_THAN_OR_EQUALS -> condition.expectedDuration() == null
+                        ? evaluate(type, placeholderValue, expectedValue)
+                        : compareDurations(type, parseDuration(placeholderValue), condition.expectedDuration());
+
+                default -> evaluate(type, placeholderValue, expectedValue);
+            };
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return PlaceholderConditionResult.invalidFormatResult();
+        }
+    }
+
+    /**
+     * Parses a value as a number, without throwing.
+     *
+     * @param value the value to parse (may be null)
+     * @return the parsed number, or null if the value is null or not a number
+     */
+    static Float tryParseNumber(String value) {
+        if (value == null) return null;
+        try {
+            return parseNumber(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a value as a duration, without throwing.
+     *
+     * @param value the value to parse (may be null)
+     * @return the parsed duration, or null if the value is null or not a duration
+     */
+    static Duration tryParseDuration(String value) {
+        if (value == null) return null;
+        try {
+            return parseDuration(value);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
     /**
      * Evaluates a numeric condition. Both values are parsed as floats,
      * after replacing commas with dots for decimal compatibility.
@@ -74,9 +139,14 @@ public final class PlaceholderConditionEvaluator {
      * @throws NumberFormatException if either value cannot be parsed as a number
      */
     private static PlaceholderConditionResult evaluateNumeric(ConditionOperator type, String placeholderValue, String expectedValue) {
-        float current = Float.parseFloat(placeholderValue.replace(",", "."));
-        float expected = Float.parseFloat(expectedValue.replace(",", "."));
+        return compareNumbers(type, parseNumber(placeholderValue), parseNumber(expectedValue));
+    }
 
+    private static float parseNumber(String value) {
+        return Float.parseFloat(value.replace(",", "."));
+    }
+
+    private static PlaceholderConditionResult compareNumbers(ConditionOperator type, float current, float expected) {
         return switch (type) {
             case GREATER_THAN -> PlaceholderConditionResult.of(current > expected);
             case GREATER_THAN_OR_EQUALS -> PlaceholderConditionResult.of(current >= expected);
@@ -98,9 +168,10 @@ public final class PlaceholderConditionEvaluator {
      * @throws ArrayIndexOutOfBoundsException    if the string does not have the expected format
      */
     private static PlaceholderConditionResult evaluateDuration(ConditionOperator type, String placeholderValue, String expectedValue) {
-        Duration current = parseDuration(placeholderValue);
-        Duration expected = parseDuration(expectedValue);
+        return compareDurations(type, parseDuration(placeholderValue), parseDuration(expectedValue));
+    }
 
+    private static PlaceholderConditionResult compareDurations(ConditionOperator type, Duration current, Duration expected) {
         return switch (type) {
             case DURATION_GREATER_THAN -> PlaceholderConditionResult.of(current.compareTo(expected) > 0);
             case DURATION_GREATER_THAN_OR_EQUALS -> PlaceholderConditionResult.of(current.compareTo(expected) >= 0);
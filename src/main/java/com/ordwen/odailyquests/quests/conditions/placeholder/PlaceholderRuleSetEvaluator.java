@@ -3,8 +3,10 @@ package com.ordwen.odailyquests.quests.conditions.placeholder;
 import com.ordwen.odailyquests.enums.QuestsMessages;
 import com.ordwen.odailyquests.tools.TextFormatter;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Utility class responsible for evaluating a list of placeholder-based conditions
@@ -35,6 +37,23 @@ public final class PlaceholderRuleSetEvaluator {
      * @return {@code true} if all conditions are satisfied; {@code false} otherwise
      */
     public static boolean evaluate(Player player, List<PlaceholderCondition> conditions, boolean sendMessages) {
+        return evaluate(player, conditions, sendMessages, null);
+    }
+
+    /**
+     * Evaluates a list of placeholder conditions for a given player, reusing the results of conditions
+     * already evaluated for this player.
+     * <p>
+     * The memo is meant to be short-lived, e.g. scoped to a single quest draw, so that identical conditions
+     * shared by several quests are only resolved once.
+     *
+     * @param player       the player for whom conditions are evaluated
+     * @param conditions   the list of conditions to check (may be null or empty)
+     * @param sendMessages whether to send feedback messages to the player
+     * @param memo         results of the conditions already evaluated for this player, or null to disable memoization
+     * @return {@code true} if all conditions are satisfied; {@code false} otherwise
+     */
+    public static boolean evaluate(Player player, List<PlaceholderCondition> conditions, boolean sendMessages, @Nullable Map<PlaceholderCondition, Boolean> memo) {
         if (conditions == null || conditions.isEmpty()) {
             return true;
         }
@@ -44,10 +63,21 @@ public final class PlaceholderRuleSetEvaluator {
         }
 
         for (PlaceholderCondition condition : conditions) {
+            if (memo != null) {
+                final Boolean known = memo.get(condition);
+                if (known != null && !sendMessages) {
+                    if (!known) return false;
+                    continue;
+                }
+            }
+
             final String placeholderValue = TextFormatter.format(player, condition.placeholder());
             final String expectedValue = TextFormatter.format(player, condition.expectedValue());
 
-            final PlaceholderConditionResult result = PlaceholderConditionEvaluator.evaluate(condition.conditionOperator(), placeholderValue, expectedValue);
+            final PlaceholderConditionResult result = PlaceholderConditionEvaluator.evaluate(condition, placeholderValue, expectedValue);
+            if (memo != null) {
+                memo.put(condition, result.matched() && !result.invalidFormat());
+            }
 
             if (result.invalidFormat()) {
                 return handleInvalidFormat(player, sendMessages, placeholderValue);
@@ -0,0 +1,212 @@
+package com.ordwen.odailyquests.quests.player;
+
+import com.ordwen.odailyquests.configuration.essentials.Debugger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe registry of the loaded players' quests, keyed by player UUID.
+ * <p>
+ * The registry is written from async load tasks, renewal timers, region threads and commands. All state is kept
+ * in concurrent maps: a {@link PlayerQuests} instance is fully built before being registered, and registering it
+ * happens-before any lookup that returns it.
+ * <p>
+ * For compatibility, the registry is also a {@code Map<String, PlayerQuests>} keyed by player name. Name lookups
+ * go through a name to UUID index. Prefer the UUID methods when a {@link Player} is at hand.
+ */
+public class ActiveQuestsRegistry extends AbstractMap<String, PlayerQuests> {
+
+    private final ConcurrentMap<UUID, PlayerQuests> questsByUuid = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, UUID> uuidsByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, String> namesByUuid = new ConcurrentHashMap<>();
+
+    private final Set<Entry<String, PlayerQuests>> entrySet = new EntrySet();
+
+    /**
+     * Get the quests of a player.
+     *
+     * @param uuid player uuid.
+     * @return the player quests, or null if they are not loaded.
+     */
+    public PlayerQuests get(UUID uuid) {
+        return questsByUuid.get(uuid);
+    }
+
+    /**
+     * Check if the quests of a player are loaded.
+     *
+     * @param uuid player uuid.
+     * @return true if the player quests are loaded.
+     */
+    public boolean contains(UUID uuid) {
+        return questsByUuid.containsKey(uuid);
+    }
+
+    /**
+     * Register the quests of a player, replacing the previous ones.
+     *
+     * @param player       the player.
+     * @param playerQuests the player quests.
+     * @return the previous player quests, or null.
+     */
+    public PlayerQuests put(Player player, PlayerQuests playerQuests) {
+        return put(player.getUniqueId(), player.getName(), playerQuests);
+    }
+
+    /**
+     * Register the quests of a player, replacing the previous ones.
+     *
+     * @param uuid         player uuid.
+     * @param playerName   player name.
+     * @param playerQuests the player quests.
+     * @return the previous player quests, or null.
+     */
+    public PlayerQuests put(UUID uuid, String playerName, PlayerQuests playerQuests) {
+        // publish the quests before the name index, so a name lookup never resolves to a missing entry
+        final PlayerQuests previous = questsByUuid.put(uuid, playerQuests);
+
+        final String previousName = namesByUuid.put(uuid, playerName);
+        if (previousName != null && !previousName.equals(playerName)) {
+            uuidsByName.remove(previousName, uuid);
+        }
+        uuidsByName.put(playerName, uuid);
+
+        return previous;
+    }
+
+    /**
+     * Unregister the quests of a player.
+     *
+     * @param uuid player uuid.
+     * @return the removed player quests, or null.
+     */
+    public PlayerQuests remove(UUID uuid) {
+        final String playerName = namesByUuid.remove(uuid);
+        if (playerName != null) {
+            uuidsByName.remove(playerName, uuid);
+        }
+        return questsByUuid.remove(uuid);
+    }
+
+    /**
+     * Get an unmodifiable, weakly consistent view of the registered quests by player uuid.
+     *
+     * @return the registered quests.
+     */
+    public Map<UUID, PlayerQuests> byUuid() {
+        return Collections.unmodifiableMap(questsByUuid);
+    }
+
+    @Override
+    public PlayerQuests get(Object playerName) {
+        final UUID uuid = uuidsByName.get(playerName);
+        return uuid == null ? null : questsByUuid.get(uuid);
+    }
+
+    @Override
+    public boolean containsKey(Object playerName) {
+        return get(playerName) != null;
+    }
+
+    /**
+     * Register the quests of a player by name. The player must be online, so their uuid can be resolved.
+     */
+    @Override
+    public PlayerQuests put(String playerName, PlayerQuests playerQuests) {
+        final Player player = Bukkit.getPlayerExact(playerName);
+        if (player != null) {
+            return put(player, playerQuests);
+        }
+
+        final UUID known = uuidsByName.get(playerName);
+        if (known != null) {
+            return put(known, playerName, playerQuests);
+        }
+
+        Debugger.write(() -> "ActiveQuestsRegistry: player " + playerName + " is offline, quests not registered.");
+        return null;
+    }
+
+    @Override
+    public PlayerQuests remove(Object playerName) {
+        final UUID uuid = uuidsByName.get(playerName);
+        return uuid == null ? null : remove(uuid);
+    }
+
+    @Override
+    public int size() {
+        return questsByUuid.size();
+    }
+
+    @Override
+    public void clear() {
+        uuidsByName.clear();
+        namesByUuid.clear();
+        questsByUuid.clear();
+    }
+
+    @Override
+    public Set<Entry<String, PlayerQuests>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * Weakly consistent view of the registry by player name.
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, PlayerQuests>> {
+
+        @Override
+        public Iterator<Entry<String, PlayerQuests>> iterator() {
+            final Iterator<Entry<String, UUID>> names = uuidsByName.entrySet().iterator();
+
+            return new Iterator<>() {
+                private Entry<String, PlayerQuests> next;
+                private String last;
+
+                @Override
+                public boolean hasNext() {
+                    while (next == null && names.hasNext()) {
+                        final Entry<String, UUID> entry = names.next();
+                        final PlayerQuests playerQuests = questsByUuid.get(entry.getValue());
+                        if (playerQuests != null) {
+                            next = new SimpleImmutableEntry<>(entry.getKey(), playerQuests);
+                        }
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public Entry<String, PlayerQuests> next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    final Entry<String, PlayerQuests> entry = next;
+                    next = null;
+                    last = entry.getKey();
+                    return entry;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) throw new IllegalStateException();
+                    ActiveQuestsRegistry.this.remove(last);
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return questsByUuid.size();
+        }
+    }
+}
@@ -17,10 +17,13 @@ import com.ordwen.odailyquests.quests.categories.CategoriesLoader;
 import com.ordwen.odailyquests.quests.categories.Category;
 import com.ordwen.odailyquests.quests.types.AbstractQuest;
 import com.ordwen.odailyquests.quests.player.progression.Progression;
+import com.ordwen.odailyquests.tools.Pair;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
 
 /**
  * Represents the player's quests and their associated data.
@@ -39,6 +42,18 @@ public class PlayerQuests {
     /* timestamps of last quests renew, by group name */
     private final Map<String, Long> timestampsByGroup;
 
+    /**
+     * Next renewal of the quests and the timestamp it has been computed from.
+     *
+     * @param timestamp timestamp of the last renewal
+     * @param next      next renewal, in epoch milliseconds
+     */
+    private record NextRenewal(long timestamp, long next) {
+    }
+
+    /* renewal settings only change on reload, where the player quests are loaded again, so only the timestamp is checked */
+    private volatile NextRenewal nextRenewal;
+
     private int achievedQuests;
     private int totalAchievedQuests;
     private final Map<String, Integer> recentRerollsByGroup = new HashMap<>();
@@ -46,6 +61,16 @@ public class PlayerQuests {
     private final Map<String, Integer> achievedQuestsByCategory = new HashMap<>();
     private final Map<String, Integer> totalAchievedQuestsByCategory = new HashMap<>();
 
+    /* active quests grouped by quest type, rebuilt each time the quests map changes */
+    private Map<String, List<Pair<AbstractQuest, Progression>>> questsByType = Collections.emptyMap();
+
+    /* active quests in map order, rebuilt each time the quests map changes */
+    private List<Pair<AbstractQuest, Progression>> questsByIndex = Collections.emptyList();
+
+    /* incremented on each change, compared to the last persisted version to detect unsaved data */
+    private final AtomicLong version = new AtomicLong(1);
+    private volatile long savedVersion = 0;
+
     /**
      * Constructs a new PlayerQuests object with the provided timestamps and a map of quests with their progress.
      *
@@ -59,6 +84,7 @@ public class PlayerQuests {
         this.totalAchievedQuests = 0;
 
         setAchievedQuestsByCategory();
+        indexQuests();
     }
 
     /**
@@ -81,6 +107,7 @@ public class PlayerQuests {
         this.totalAchievedQuests = 0;
 
         setAchievedQuestsByCategory();
+        indexQuests();
     }
 
     /**
@@ -100,6 +127,71 @@ public class PlayerQuests {
         }
     }
 
+    /**
+     * Rebuilds the quest indexes used by {@link #getQuestsByType(String)} and {@link #getQuestAt(int)}.
+     * Must be called after every structural change of the quests map (load, reroll, replacement).
+     */
+    private void indexQuests() {
+        final Map<String, List<Pair<AbstractQuest, Progression>>> index = new HashMap<>();
+        final List<Pair<AbstractQuest, Progression>> ordered = new ArrayList<>(this.quests.size());
+        for (Map.Entry<AbstractQuest, Progression> entry : this.quests.entrySet()) {
+            final Pair<AbstractQuest, Progression> pair = new Pair<>(entry.getKey(), entry.getValue());
+            index.computeIfAbsent(entry.getKey().getQuestType(), k -> new ArrayList<>()).add(pair);
+            ordered.add(pair);
+        }
+        this.questsByType = index;
+        this.questsByIndex = ordered;
+    }
+
+    /**
+     * Flags this instance as modified since its last save.
+     * Must be called after any change that should be persisted (progression, counters, quests replacement).
+     */
+    public void markDirty() {
+        this.version.incrementAndGet();
+    }
+
+    /**
+     * Records that the data up to the given version has been persisted.
+     * Savers must call it while holding their per-player lock, after checking {@link #isSavedAfter(long)},
+     * so the recorded version is always the one of the snapshot that is actually stored.
+     *
+     * @param savedVersion the version captured when the saved snapshot was taken.
+     */
+    public void markSaved(long savedVersion) {
+        this.savedVersion = savedVersion;
+    }
+
+    /**
+     * Checks whether a newer snapshot than the given one has already been persisted.
+     * A save holding such an outdated snapshot must be skipped, otherwise it would overwrite newer data.
+     *
+     * @param version the version captured when the snapshot was taken.
+     * @return true if the snapshot is older than the persisted data.
+     */
+    public boolean isSavedAfter(long version) {
+        return version < this.savedVersion;
+    }
+
+    /**
+     * Gets the current modification version, to be captured before taking a save snapshot.
+     *
+     * @return the current version.
+     */
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    /**
+     * Checks whether this instance holds changes that have not been persisted yet.
+     * Freshly generated quests are dirty until their first save.
+     *
+     * @return true if a save is required.
+     */
+    public boolean isDirty() {
+        return this.version.get() != this.savedVersion;
+    }
+
     /**
      * Gets the player's timestamp for the legacy/default group.
      * For backward compatibility, returns the first available timestamp.
@@ -116,6 +208,24 @@ public class PlayerQuests {
         return this.timestampsByGroup.values().iterator().next();
     }
 
+    /**
+     * Gets the next renewal of the player's quests, computed from {@link #getTimestamp()} on first use and each
+     * time this timestamp changes.
+     *
+     * @param compute computes the next renewal from a timestamp, in epoch milliseconds
+     * @return the next renewal, in epoch milliseconds
+     */
+    public long getNextRenewal(LongUnaryOperator compute) {
+        final long timestamp = getTimestamp();
+
+        NextRenewal current = this.nextRenewal;
+        if (current == null || current.timestamp() != timestamp) {
+            current = new NextRenewal(timestamp, compute.applyAsLong(timestamp));
+            this.nextRenewal = current;
+        }
+        return current.next();
+    }
+
     /**
      * Gets the player's timestamp for a specific group.
      *
@@ -143,6 +253,7 @@ public class PlayerQuests {
      */
     public void setTimestamp(String groupName, Long timestamp) {
         this.timestampsByGroup.put(groupName, timestamp);
+        markDirty();
     }
 
     /**
@@ -160,6 +271,7 @@ public class PlayerQuests {
 
         this.achievedQuests++;
         this.totalAchievedQuests++;
+        markDirty();
 
         if (this.achievedQuestsByCategory.containsKey(category)) {
             this.achievedQuestsByCategory.put(category, this.achievedQuestsByCategory.get(category) + 1);
@@ -268,6 +380,8 @@ public class PlayerQuests {
         // Apply the new map atomically.
         this.quests.clear();
         this.quests.putAll(newPlayerQuests);
+        indexQuests();
+        markDirty();
 
         // Increment recently rerolled count for this group
         if (!bypassMax) addRecentReroll(groupName, 1);
@@ -431,6 +545,8 @@ public class PlayerQuests {
 
         this.quests.clear();
         this.quests.putAll(updatedQuests);
+        indexQuests();
+        markDirty();
 
         if (oldProgression != null && oldProgression.isAchieved()) {
             this.decreaseAchievedQuests();
@@ -450,6 +566,7 @@ public class PlayerQuests {
      */
     public void decreaseAchievedQuests() {
         this.achievedQuests--;
+        markDirty();
     }
 
     /**
@@ -459,6 +576,7 @@ public class PlayerQuests {
      */
     public void setAchievedQuests(int i) {
         this.achievedQuests = i;
+        markDirty();
     }
 
     /**
@@ -468,6 +586,7 @@ public class PlayerQuests {
      */
     public void setTotalAchievedQuests(int i) {
         this.totalAchievedQuests = i;
+        markDirty();
     }
 
     /**
@@ -478,6 +597,7 @@ public class PlayerQuests {
      */
     public void setRecentRerolls(String groupName, int recentRerolls) {
         this.recentRerollsByGroup.put(groupName, recentRerolls);
+        markDirty();
     }
 
     /**
@@ -492,6 +612,7 @@ public class PlayerQuests {
         for (String groupName : CategoryGroupsLoader.getGroupNames()) {
             this.recentRerollsByGroup.put(groupName, recentRerolls);
         }
+        markDirty();
     }
 
     /**
@@ -502,6 +623,7 @@ public class PlayerQuests {
      */
     public void setTotalCategoryAchievedQuests(String category, int i) {
         this.totalAchievedQuestsByCategory.put(category, i);
+        markDirty();
     }
 
     /**
@@ -512,6 +634,7 @@ public class PlayerQuests {
     public void setTotalAchievedQuestsByCategory(Map<String, Integer> totals) {
         this.totalAchievedQuestsByCategory.clear();
         this.totalAchievedQuestsByCategory.putAll(totals);
+        markDirty();
     }
 
     /**
@@ -521,6 +644,7 @@ public class PlayerQuests {
      */
     public void addTotalAchievedQuests(int i) {
         this.totalAchievedQuests += i;
+        markDirty();
     }
 
     /**
@@ -531,6 +655,7 @@ public class PlayerQuests {
      */
     public void addRecentReroll(String groupName, int i) {
         this.recentRerollsByGroup.merge(groupName, i, Integer::sum);
+        markDirty();
     }
 
     /**
@@ -545,6 +670,7 @@ public class PlayerQuests {
         for (String groupName : CategoryGroupsLoader.getGroupNames()) {
             this.recentRerollsByGroup.merge(groupName, i, Integer::sum);
         }
+        markDirty();
     }
 
     /**
@@ -560,6 +686,7 @@ public class PlayerQuests {
         } else {
             this.totalAchievedQuestsByCategory.put(category, amount);
         }
+        markDirty();
     }
 
     /**
@@ -569,6 +696,7 @@ public class PlayerQuests {
      */
     public void removeTotalAchievedQuests(int i) {
         this.totalAchievedQuests = Math.max(this.totalAchievedQuests - i, 0);
+        markDirty();
     }
 
     /**
@@ -584,6 +712,7 @@ public class PlayerQuests {
         } else {
             this.totalAchievedQuestsByCategory.put(category, 0);
         }
+        markDirty();
     }
 
     /**
@@ -639,6 +768,27 @@ public class PlayerQuests {
         return this.quests;
     }
 
+    /**
+     * Get the player quests of a given type, in the same order as {@link #getQuests()}.
+     *
+     * @param questType the quest type to look for.
+     * @return the (quest, progression) pairs of this type, or an empty list if the player has none.
+     */
+    public List<Pair<AbstractQuest, Progression>> getQuestsByType(String questType) {
+        return this.questsByType.getOrDefault(questType, Collections.emptyList());
+    }
+
+    /**
+     * Get the player quest at a given position, in the same order as {@link #getQuests()}.
+     *
+     * @param index zero-based position of the quest.
+     * @return the (quest, progression) pair, or null if the index is out of bounds.
+     */
+    public Pair<AbstractQuest, Progression> getQuestAt(int index) {
+        final List<Pair<AbstractQuest, Progression>> ordered = this.questsByIndex;
+        return index >= 0 && index < ordered.size() ? ordered.get(index) : null;
+    }
+
     /**
      * Get total achieved quests for all categories.
      *
@@ -0,0 +1,69 @@
+package com.ordwen.odailyquests.quests.player;
+
+import com.ordwen.odailyquests.quests.conditions.placeholder.PlaceholderCondition;
+import com.ordwen.odailyquests.quests.conditions.placeholder.PlaceholderRuleSetEvaluator;
+import com.ordwen.odailyquests.quests.types.AbstractQuest;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Eligibility of quests for a player, memoized for the duration of a single quest draw.
+ * <p>
+ * A draw picks several quests for the same player in a row. Permissions and placeholder conditions are checked
+ * at most once per quest, and identical placeholder conditions shared by several quests are resolved only once.
+ * A context must not outlive the draw it has been created for, since permissions and placeholder values may change.
+ */
+public final class QuestDrawContext {
+
+    private final Player player;
+
+    private final Map<AbstractQuest, Boolean> eligibleQuests = new HashMap<>();
+    private final Map<String, Boolean> permissions = new HashMap<>();
+    private final Map<PlaceholderCondition, Boolean> conditions = new HashMap<>();
+
+    public QuestDrawContext(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Get the player quests are drawn for.
+     *
+     * @return the player.
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Check if the player meets the permission and placeholder requirements of a quest.
+     *
+     * @param quest the quest to check.
+     * @return true if the quest can be assigned to the player.
+     */
+    public boolean isEligible(AbstractQuest quest) {
+        final Boolean known = eligibleQuests.get(quest);
+        if (known != null) return known;
+
+        final boolean eligible = hasAllPermissions(quest.getRequiredPermissions())
+                && PlaceholderRuleSetEvaluator.evaluate(player, quest.getPlaceholderConditions(), false, conditions);
+
+        eligibleQuests.put(quest, eligible);
+        return eligible;
+    }
+
+    private boolean hasAllPermissions(List<String> required) {
+        if (required == null || required.isEmpty()) {
+            return true;
+        }
+
+        for (String permission : required) {
+            if (!permissions.computeIfAbsent(permission, player::hasPermission)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -6,7 +6,6 @@ import com.ordwen.odailyquests.configuration.essentials.QuestsPerCategory;
 import com.ordwen.odailyquests.quests.categories.CategoriesLoader;
 import com.ordwen.odailyquests.quests.categories.Category;
 import com.ordwen.odailyquests.quests.categories.CategoryGroup;
-import com.ordwen.odailyquests.quests.conditions.placeholder.PlaceholderRuleSetEvaluator;
 import com.ordwen.odailyquests.quests.types.AbstractQuest;
 import com.ordwen.odailyquests.quests.player.progression.Progression;
 import com.ordwen.odailyquests.quests.types.shared.EntityQuest;
@@ -19,6 +18,7 @@ import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Central manager for players' quests lifecycle: loading on join, saving on quit,
@@ -31,15 +31,11 @@ import java.util.*;
  *   <li>Providing static helpers to select random quests and create fresh {@link Progression} objects.</li>
  * </ul>
  * <p>
- * <strong>Thread-safety:</strong> Bukkit events are called on the main thread.
- * {@code activeQuests} is a plain {@link HashMap}; concurrent access from async tasks must be avoided
- * or externally synchronized.
+ * <strong>Thread-safety:</strong> {@code activeQuests} is an {@link ActiveQuestsRegistry}, backed by concurrent maps.
+ * It can be read and written from async tasks and region threads.
  */
 public class QuestsManager implements Listener {
 
-    /** RNG used for dynamic amounts and random selections. */
-    private static final Random random = new Random();
-
     /**
      * Main plugin entry point used to reach services such as the database manager.
      * <p>
@@ -57,17 +53,15 @@ public class QuestsManager implements Listener {
     }
 
     /**
-     * In-memory registry of online players' quests, keyed by player name.
+     * In-memory registry of online players' quests, keyed by player UUID, with a name view.
      * <p>
      * <strong>Lifecycle:</strong>
      * <ul>
      *   <li>Inserted (indirectly) when the DB manager loads quests at join.</li>
      *   <li>Saved and removed on quit.</li>
      * </ul>
-     * <strong>Note:</strong> Keys are player names; if you plan to support name changes,
-     * consider switching to UUID as the key.
      */
-    private static final Map<String, PlayerQuests> activeQuests = new HashMap<>();
+    private static final ActiveQuestsRegistry activeQuests = new ActiveQuestsRegistry();
 
     /**
      * Handles player join:
@@ -92,7 +86,7 @@ public class QuestsManager implements Listener {
         Debugger.write("Player " + playerName + " joined the server.");
         Debugger.write("Player UUID is " + uuid);
 
-        if (!activeQuests.containsKey(playerName)) {
+        if (!activeQuests.contains(uuid)) {
             Debugger.write("Player " + playerName + " is not in the array.");
             // Delegates to DB layer: expected to eventually populate activeQuests.
             plugin.getDatabaseManager().loadQuestsForPlayer(playerName);
@@ -121,11 +115,11 @@ public class QuestsManager implements Listener {
 
         final Player player = event.getPlayer();
         final String playerName = player.getName();
-        final String playerUUID = player.getUniqueId().toString();
+        final UUID uuid = player.getUniqueId();
 
         Debugger.write("Player " + playerName + " left the server.");
 
-        final PlayerQuests playerQuests = activeQuests.get(playerName);
+        final PlayerQuests playerQuests = activeQuests.get(uuid);
 
         if (playerQuests == null) {
             Debugger.write("Player " + playerName + " not found in the array.");
@@ -133,8 +127,8 @@ public class QuestsManager implements Listener {
             return;
         }
 
-        plugin.getDatabaseManager().saveProgressionForPlayer(playerName, playerUUID, playerQuests);
-        activeQuests.remove(playerName);
+        plugin.getDatabaseManager().saveProgressionForPlayer(playerName, uuid.toString(), playerQuests, true);
+        activeQuests.remove(uuid);
 
         Debugger.write("Player " + playerName + " removed from the array.");
     }
@@ -157,6 +151,7 @@ public class QuestsManager implements Listener {
 
         final Map<String, Category> categoryMap = CategoriesLoader.getAllCategories();
         final Map<String, Integer> resolvedAmounts = QuestsPerCategory.resolveAllFor(player);
+        final QuestDrawContext drawContext = new QuestDrawContext(player);
 
         for (Map.Entry<String, Category> entry : categoryMap.entrySet()) {
             final String categoryName = entry.getKey();
@@ -167,15 +162,13 @@ public class QuestsManager implements Listener {
                 continue;
             }
 
-            for (int i = 0; i < requiredAmount; i++) {
-                final AbstractQuest quest = getRandomQuestForPlayer(quests.keySet(), category, player);
-                if (quest == null) {
-                    Debugger.write("Not enough quests available to assign to " + player.getName() + " in category " + categoryName + ".");
-                    break;
-                }
+            final List<AbstractQuest> drawn = drawRandomQuests(quests.keySet(), category, requiredAmount, drawContext);
+            if (drawn.size() < requiredAmount) {
+                Debugger.write("Not enough quests available to assign to " + player.getName() + " in category " + categoryName + ".");
+            }
 
-                final Progression progression = createFreshProgression(quest);
-                quests.put(quest, progression);
+            for (AbstractQuest quest : drawn) {
+                quests.put(quest, createFreshProgression(quest));
             }
         }
 
@@ -195,6 +188,7 @@ public class QuestsManager implements Listener {
         final Map<AbstractQuest, Progression> quests = new LinkedHashMap<>();
 
         final Map<String, Integer> resolvedAmounts = QuestsPerCategory.resolveAllFor(player);
+        final QuestDrawContext drawContext = new QuestDrawContext(player);
 
         for (String categoryName : group.getCategoryNames()) {
             final Category category = CategoriesLoader.getCategoryByName(categoryName);
@@ -208,15 +202,13 @@ public class QuestsManager implements Listener {
                 continue;
             }
 
-            for (int i = 0; i < requiredAmount; i++) {
-                final AbstractQuest quest = getRandomQuestForPlayer(quests.keySet(), category, player);
-                if (quest == null) {
-                    Debugger.write("Not enough quests available to assign to " + player.getName() + " in category " + categoryName + " (group " + group.getName() + ").");
-                    break;
-                }
+            final List<AbstractQuest> drawn = drawRandomQuests(quests.keySet(), category, requiredAmount, drawContext);
+            if (drawn.size() < requiredAmount) {
+                Debugger.write("Not enough quests available to assign to " + player.getName() + " in category " + categoryName + " (group " + group.getName() + ").");
+            }
 
-                final Progression progression = createFreshProgression(quest);
-                quests.put(quest, progression);
+            for (AbstractQuest quest : drawn) {
+                quests.put(quest, createFreshProgression(quest));
             }
         }
 
@@ -238,7 +230,7 @@ public class QuestsManager implements Listener {
             int max = Integer.parseInt(parts[1].trim());
             if (min < 1) min = 1;
 
-            return random.nextInt(min, max + 1);
+            return ThreadLocalRandom.current().nextInt(min, max + 1);
         }
 
         int amount = Integer.parseInt(requiredAmountRaw);
@@ -258,11 +250,11 @@ public class QuestsManager implements Listener {
      */
     private static int getRandomIndexFrom(AbstractQuest quest) {
         if (quest instanceof EntityQuest eq) {
-            return random.nextInt(eq.getRequiredEntities().size());
+            return ThreadLocalRandom.current().nextInt(eq.getRequiredEntities().size());
         }
 
         if (quest instanceof ItemQuest iq) {
-            return random.nextInt(iq.getRequiredItems().size());
+            return ThreadLocalRandom.current().nextInt(iq.getRequiredItems().size());
         }
 
         return 0;
@@ -306,53 +298,78 @@ public class QuestsManager implements Listener {
      * @return a random eligible quest, or {@code null} if none are eligible
      */
     public static AbstractQuest getRandomQuestForPlayer(Set<AbstractQuest> currentQuests, List<AbstractQuest> availableQuests, Player player) {
-        final List<AbstractQuest> filteredQuests = new ArrayList<>();
-
-        for (AbstractQuest quest : availableQuests) {
-            if (hasAllPermissions(player, quest.getRequiredPermissions())
-                    && !currentQuests.contains(quest)
-                    && PlaceholderRuleSetEvaluator.evaluate(player, quest.getPlaceholderConditions(), false)) {
-                filteredQuests.add(quest);
-            }
-        }
-
-        if (filteredQuests.isEmpty()) {
-            return null;
-        }
+        return getRandomQuestForPlayer(currentQuests, availableQuests, new QuestDrawContext(player));
+    }
 
-        int randomIndex = random.nextInt(filteredQuests.size());
-        return filteredQuests.get(randomIndex);
+    /**
+     * Picks a random eligible quest from a provided list, reusing the eligibility already computed during the draw.
+     *
+     * @param currentQuests   set of quests already assigned to the player (for duplicate filtering)
+     * @param availableQuests candidate quests to pick from
+     * @param drawContext     eligibility of quests for the player, scoped to the current draw
+     * @return a random eligible quest, or {@code null} if none are eligible
+     * @see #getRandomQuestForPlayer(Set, List, Player)
+     */
+    public static AbstractQuest getRandomQuestForPlayer(Set<AbstractQuest> currentQuests, List<AbstractQuest> availableQuests, QuestDrawContext drawContext) {
+        final List<AbstractQuest> drawn = drawRandomQuests(currentQuests, availableQuests, 1, drawContext);
+        return drawn.isEmpty() ? null : drawn.get(0);
     }
 
     /**
-     * Checks whether a player has all permissions in the provided list.
+     * Draws up to {@code amount} distinct random quests from a provided list.
+     * <p>
+     * Eligible quests are collected in a single pass, then sampled without replacement with a partial
+     * Fisher–Yates shuffle: the cost is O(quests + amount), with no retry.
      *
-     * @param player      the player to check (must not be {@code null})
-     * @param permissions list of permissions; {@code null} or empty means "no restriction"
-     * @return {@code true} if all permissions are granted or none are required; {@code false} otherwise
+     * @param currentQuests   set of quests already assigned to the player (for duplicate filtering)
+     * @param availableQuests candidate quests to pick from
+     * @param amount          amount of quests to draw
+     * @param drawContext     eligibility of quests for the player, scoped to the current draw
+     * @return the drawn quests, fewer than {@code amount} if not enough quests are eligible
      */
-    private static boolean hasAllPermissions(Player player, List<String> permissions) {
-        if (permissions == null || permissions.isEmpty()) {
-            return true;
-        }
+    public static List<AbstractQuest> drawRandomQuests(Set<AbstractQuest> currentQuests, List<AbstractQuest> availableQuests, int amount, QuestDrawContext drawContext) {
+        final AbstractQuest[] candidates = new AbstractQuest[availableQuests.size()];
+        int size = 0;
 
-        for (String permission : permissions) {
-            if (!player.hasPermission(permission)) {
-                return false;
+        for (AbstractQuest quest : availableQuests) {
+            if (!currentQuests.contains(quest) && drawContext.isEligible(quest)) {
+                candidates[size++] = quest;
             }
         }
-        return true;
+
+        final int toDraw = Math.min(amount, size);
+        final List<AbstractQuest> drawn = new ArrayList<>(toDraw);
+        final ThreadLocalRandom rng = ThreadLocalRandom.current();
+
+        for (int i = 0; i < toDraw; i++) {
+            final int j = i + rng.nextInt(size - i);
+            final AbstractQuest picked = candidates[j];
+            candidates[j] = candidates[i];
+            candidates[i] = picked;
+            drawn.add(picked);
+        }
+
+        return drawn;
     }
 
     /**
-     * Exposes the in-memory map of active quests.
+     * Exposes the in-memory map of active quests, keyed by player name.
      * <p>
      * Mutations on the returned map affect the internal state directly.
-     * Prefer adding dedicated methods if you need stricter control.
+     * Prefer {@link #getActiveQuestsRegistry()} and its UUID methods when a player instance is available.
      *
      * @return the live map of player name -&gt; {@link PlayerQuests}
      */
     public static Map<String, PlayerQuests> getActiveQuests() {
         return activeQuests;
     }
+
+    /**
+     * Exposes the in-memory registry of active quests, keyed by player UUID.
+     *
+     * @return the live registry of active quests
+     */
+    public static ActiveQuestsRegistry getActiveQuestsRegistry() {
+        return activeQuests;
+    }
 }
\ No newline at end of file
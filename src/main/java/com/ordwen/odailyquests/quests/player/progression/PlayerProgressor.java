@@ -1,6 +1,5 @@
 package com.ordwen.odailyquests.quests.player.progression;
 
-import com.jeff_media.customblockdata.CustomBlockData;
 import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.api.ODailyQuestsAPI;
 import com.ordwen.odailyquests.api.events.QuestCompletedEvent;
@@ -12,11 +11,13 @@ import com.ordwen.odailyquests.configuration.functionalities.CompleteOnlyOnClick
 import com.ordwen.odailyquests.configuration.functionalities.DisabledWorlds;
 import com.ordwen.odailyquests.configuration.functionalities.progression.ProgressionMessage;
 import com.ordwen.odailyquests.enums.QuestsMessages;
+import com.ordwen.odailyquests.events.antiglitch.PlacedBlocks;
 import com.ordwen.odailyquests.externs.hooks.Protection;
+import com.ordwen.odailyquests.quests.player.PlayerQuests;
 import com.ordwen.odailyquests.quests.player.QuestsManager;
 import com.ordwen.odailyquests.quests.types.AbstractQuest;
 import com.ordwen.odailyquests.quests.types.item.FarmingQuest;
-import com.ordwen.odailyquests.tools.QuestPlaceholders;
+import com.ordwen.odailyquests.tools.Pair;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -31,7 +32,6 @@ import org.bukkit.persistence.PersistentDataType;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -73,8 +73,8 @@ public class PlayerProgressor {
      * @param questType the quest type to set the progression for
      */
     public void setPlayerQuestProgression(Event event, Player player, int amount, String questType) {
-        if (QuestsManager.getActiveQuests().containsKey(player.getName())) {
-            Debugger.write("Active quests contain " + player.getName() + ".");
+        if (QuestsManager.getActiveQuestsRegistry().contains(player.getUniqueId())) {
+            Debugger.write(() -> "Active quests contain " + player.getName() + ".");
             checkForProgress(event, player, amount, questType);
         }
     }
@@ -88,16 +88,22 @@ public class PlayerProgressor {
      * @param questType the quest type to check for
      */
     private void checkForProgress(Event event, Player player, int amount, String questType) {
-        final Map<AbstractQuest, Progression> playerQuests = ODailyQuestsAPI.getPlayerQuests(player.getName()).getQuests();
-        for (Map.Entry<AbstractQuest, Progression> entry : playerQuests.entrySet()) {
-            final AbstractQuest quest = entry.getKey();
-            if (quest.getQuestType().equals(questType)) {
-                final Progression progression = entry.getValue();
+        final PlayerQuests playerQuests = ODailyQuestsAPI.getPlayerQuests(player.getUniqueId());
+        if (playerQuests == null) return;
+
+        /* quests reacting to the same event share their protection and region checks */
+        Protection.openScope();
+        try {
+            for (Pair<AbstractQuest, Progression> entry : playerQuests.getQuestsByType(questType)) {
+                final AbstractQuest quest = entry.first();
+                final Progression progression = entry.second();
                 if (!progression.isAchieved() && quest.canProgress(event, progression)) {
                     actionQuest(player, progression, quest, amount);
                     if (!Synchronization.isSynchronised()) break;
                 }
             }
+        } finally {
+            Protection.closeScope();
         }
     }
 
@@ -111,7 +117,7 @@ public class PlayerProgressor {
      */
     public void actionQuest(Player player, Progression progression, AbstractQuest quest, int amount) {
 
-        Debugger.write("QuestProgressUtils: actionQuest summoned by " + player.getName() + " for " + quest.getQuestName() + " with amount " + amount + ".");
+        Debugger.write(() -> "QuestProgressUtils: actionQuest summoned by " + player.getName() + " for " + quest.getQuestName() + " with amount " + amount + ".");
 
         final QuestProgressEvent event = new QuestProgressEvent(player, progression, quest, amount);
         Bukkit.getPluginManager().callEvent(event);
@@ -134,8 +140,6 @@ public class PlayerProgressor {
         if (QuestLoaderUtils.isTimeToRenew(player, QuestsManager.getActiveQuests())) return;
         if (!isAllowedToProgress(player, quest)) return;
 
-        final String questName = QuestPlaceholders.replaceQuestPlaceholders(quest.getQuestName(), player, quest, progression, null, null);
-
         final int current = progression.getAdvancement();
         final int required = progression.getRequiredAmount();
 
@@ -143,13 +147,18 @@ public class PlayerProgressor {
         final int remaining = required - current;
         final int toAdd = Math.min(amount, remaining);
 
-        Debugger.write("QuestProgressUtils: increasing progression for " + questName + " by " + toAdd + ".");
+        Debugger.write(() -> "QuestProgressUtils: increasing progression for " + quest.getQuestName() + " by " + toAdd + ".");
         for (int i = 0; i < toAdd; i++) {
             progression.increaseAdvancement();
         }
 
+        if (toAdd > 0) {
+            final PlayerQuests playerQuests = QuestsManager.getActiveQuestsRegistry().get(player.getUniqueId());
+            if (playerQuests != null) playerQuests.markDirty();
+        }
+
         if (progression.getAdvancement() >= required) {
-            Debugger.write("QuestProgressUtils: progression " + progression.getAdvancement() + " is greater than or equal to amount required " + progression.getRequiredAmount() + ".");
+            Debugger.write(() -> "QuestProgressUtils: progression " + progression.getAdvancement() + " is greater than or equal to amount required " + progression.getRequiredAmount() + ".");
             if (CompleteOnlyOnClick.isEnabled()) {
                 return;
             }
@@ -162,7 +171,7 @@ public class PlayerProgressor {
             return;
         }
 
-        ProgressionMessage.sendProgressionMessage(player, questName, progression.getAdvancement(), progression.getRequiredAmount(), progression.getRewardAmount());
+        ProgressionMessage.sendProgressionMessage(player, quest, progression);
     }
 
     /**
@@ -250,19 +259,17 @@ public class PlayerProgressor {
      */
     protected boolean isPlayerPlacedBlock(Block block, Material material) {
         if (material.isBlock() && Antiglitch.isStorePlacedBlocks()) {
-            final PersistentDataContainer pdc = new CustomBlockData(block, ODailyQuests.INSTANCE);
-
-            if (!pdc.has(Antiglitch.PLACED_KEY, PersistentDataType.STRING)) {
-                Debugger.write("PlayerProgressor: isPlayerPlacedBlock no PLACED_KEY, not a placed block.");
+            final Material previousType = PlacedBlocks.getPlacedType(block);
+            if (previousType == null) {
+                Debugger.write("PlayerProgressor: isPlayerPlacedBlock not a placed block.");
                 return false;
             }
 
-            final String previousType = pdc.get(Antiglitch.PLACED_KEY, PersistentDataType.STRING);
-            if (previousType != null && previousType.equals(material.name())) {
-                Debugger.write("PlayerProgressor: isPlayerPlacedBlock cancelled, block was placed (type=" + previousType + ").");
+            if (previousType == material) {
+                Debugger.write(() -> "PlayerProgressor: isPlayerPlacedBlock cancelled, block was placed (type=" + previousType + ").");
                 return true;
             } else {
-                Debugger.write("PlayerProgressor: isPlayerPlacedBlock type changed (" + previousType + " -> " + material.name() + "), allow.");
+                Debugger.write(() -> "PlayerProgressor: isPlayerPlacedBlock type changed (" + previousType + " -> " + material.name() + "), allow.");
                 return false;
             }
         } else {
@@ -284,7 +291,7 @@ public class PlayerProgressor {
         for (Item item : drops) {
             final ItemStack droppedItem = item.getItemStack();
             final Material droppedMaterial = droppedItem.getType();
-            Debugger.write("PlayerProgressor: handling drop: " + droppedMaterial + ".");
+            Debugger.write(() -> "PlayerProgressor: handling drop: " + droppedMaterial + ".");
 
             FarmingQuest.setCurrent(new ItemStack(droppedMaterial));
             setPlayerQuestProgression(event, player, droppedItem.getAmount(), "FARMING");
@@ -303,7 +310,7 @@ public class PlayerProgressor {
      */
     protected void storeBrokenBlockMetadata(Collection<? extends ItemStack> drops, Player player) {
         for (ItemStack drop : drops) {
-            Debugger.write("PlayerProgressor: onBlockDropItemEvent storing broken block: " + drop.getType());
+            Debugger.write(() -> "PlayerProgressor: onBlockDropItemEvent storing broken block: " + drop.getType());
             final ItemMeta dropMeta = drop.getItemMeta();
             if (dropMeta == null) continue;
 
@@ -30,6 +30,27 @@ public class QuestLoaderUtils {
      * @return true if it's time to redraw quests.
      */
     public static boolean checkTimestamp(long timestamp) {
+        return System.currentTimeMillis() >= nextRenewal(timestamp);
+    }
+
+    /**
+     * Check if it is time to redraw quests for a player for a specific category group.
+     *
+     * @param timestamp player timestamp for this group
+     * @param group     the category group to check
+     * @return true if it's time to redraw quests for this group
+     */
+    public static boolean checkTimestamp(long timestamp, CategoryGroup group) {
+        return System.currentTimeMillis() >= nextRenewal(timestamp, group);
+    }
+
+    /**
+     * Compute the first renewal after a player timestamp, with the global renewal settings.
+     *
+     * @param timestamp player timestamp.
+     * @return the next renewal in epoch milliseconds, or {@link Long#MAX_VALUE} if the settings are incorrect.
+     */
+    public static long nextRenewal(long timestamp) {
         final int mode = TimestampMode.getTimestampMode();
         final Duration renewInterval = RenewInterval.getRenewInterval();
 
@@ -38,18 +59,15 @@ public class QuestLoaderUtils {
                 final RenewSchedule.Settings s = RenewSchedule.settings();
                 if (!RenewSchedule.isValid(s)) {
                     PluginLogger.error(ChatColor.RED + "Renew schedule is invalid.");
-                    return false;
+                    return Long.MAX_VALUE;
                 }
 
-                final ZonedDateTime lastRenew = Instant.ofEpochMilli(timestamp).atZone(s.zone());
-                final ZonedDateTime now = ZonedDateTime.now(s.zone());
-
-                return RenewSchedule.shouldRenewSince(lastRenew, now, s);
+                return nextScheduledRenewal(timestamp, s);
             }
 
             case 2 -> {
                 if (renewInterval != null) {
-                    return System.currentTimeMillis() - timestamp >= renewInterval.toMillis();
+                    return timestamp + renewInterval.toMillis();
                 } else {
                     PluginLogger.error(ChatColor.RED + "Impossible to check player quests timestamp. Renew interval is incorrect.");
                 }
@@ -59,17 +77,17 @@ public class QuestLoaderUtils {
                     PluginLogger.error(ChatColor.RED + "Impossible to load player quests timestamp. The selected mode is incorrect.");
         }
 
-        return false;
+        return Long.MAX_VALUE;
     }
 
     /**
-     * Check if it is time to redraw quests for a player for a specific category group.
+     * Compute the first renewal after a player timestamp, with the renewal settings of a category group.
      *
      * @param timestamp player timestamp for this group
-     * @param group     the category group to check
-     * @return true if it's time to redraw quests for this group
+     * @param group     the category group
+     * @return the next renewal in epoch milliseconds, or {@link Long#MAX_VALUE} if the settings are incorrect.
      */
-    public static boolean checkTimestamp(long timestamp, CategoryGroup group) {
+    public static long nextRenewal(long timestamp, CategoryGroup group) {
         final int mode = TimestampMode.getTimestampMode();
 
         switch (mode) {
@@ -77,19 +95,16 @@ public class QuestLoaderUtils {
                 final RenewSchedule.Settings s = group.toScheduleSettings(mode);
                 if (!RenewSchedule.isValid(s)) {
                     PluginLogger.error(ChatColor.RED + "Renew schedule is invalid for group '" + group.getName() + "'.");
-                    return false;
+                    return Long.MAX_VALUE;
                 }
 
-                final ZonedDateTime lastRenew = Instant.ofEpochMilli(timestamp).atZone(s.zone());
-                final ZonedDateTime now = ZonedDateTime.now(s.zone());
-
-                return RenewSchedule.shouldRenewSince(lastRenew, now, s);
+                return nextScheduledRenewal(timestamp, s);
             }
 
             case 2 -> {
                 final Duration renewInterval = group.getRenewInterval();
                 if (renewInterval != null) {
-                    return System.currentTimeMillis() - timestamp >= renewInterval.toMillis();
+                    return timestamp + renewInterval.toMillis();
                 } else {
                     PluginLogger.error(ChatColor.RED + "Impossible to check player quests timestamp for group '" + group.getName() + "'. Renew interval is incorrect.");
                 }
@@ -99,7 +114,15 @@ public class QuestLoaderUtils {
                     PluginLogger.error(ChatColor.RED + "Impossible to load player quests timestamp. The selected mode is incorrect.");
         }
 
-        return false;
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Get the first scheduled renewal strictly after a timestamp, like {@link RenewSchedule#shouldRenewSince}.
+     */
+    private static long nextScheduledRenewal(long timestamp, RenewSchedule.Settings s) {
+        final ZonedDateTime lastRenew = Instant.ofEpochMilli(timestamp).atZone(s.zone());
+        return RenewSchedule.nextExecutionAfter(lastRenew, s).toInstant().toEpochMilli();
     }
 
     /**
@@ -239,7 +262,7 @@ public class QuestLoaderUtils {
         if (TimestampMode.getTimestampMode() == 1) return false;
         final PlayerQuests playerQuests = activeQuests.get(player.getName());
 
-        if (checkTimestamp(playerQuests.getTimestamp())) {
+        if (System.currentTimeMillis() >= playerQuests.getNextRenewal(QuestLoaderUtils::nextRenewal)) {
             loadNewPlayerQuests(player.getName(), activeQuests, playerQuests.getTotalAchievedQuestsByCategory(), playerQuests.getTotalAchievedQuests());
             return true;
         }
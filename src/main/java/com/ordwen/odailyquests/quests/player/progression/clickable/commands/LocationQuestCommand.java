@@ -24,16 +24,15 @@ public class LocationQuestCommand extends QuestCommand<LocationQuest> {
         final var player = context.getPlayer();
         if (!quest.isAllowedToProgress(player, quest)) return;
 
-        final Location requiredLocation = quest.getRequiredLocation();
-        final World requiredWorld = requiredLocation.getWorld();
+        final Location location = player.getLocation();
+        final World requiredWorld = quest.getRequiredLocation().getWorld();
 
-        if (requiredWorld != null && !requiredWorld.equals(player.getLocation().getWorld())) {
+        if (requiredWorld != null && !requiredWorld.equals(location.getWorld())) {
             sendMessage(QuestsMessages.BAD_WORLD_LOCATION);
             return;
         }
 
-        double distance = player.getLocation().distance(requiredLocation);
-        if (distance <= quest.getRadius()) {
+        if (quest.isInRange(location)) {
             final QuestCompletedEvent event = new QuestCompletedEvent(player, progression, quest);
             Bukkit.getPluginManager().callEvent(event);
 
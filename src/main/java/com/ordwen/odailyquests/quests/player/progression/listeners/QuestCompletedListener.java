@@ -24,14 +24,14 @@ public class QuestCompletedListener implements Listener {
 
         progression.setAchieved();
 
-        final String formattedQuestName = QuestPlaceholders.replaceQuestPlaceholders(
-                TextFormatter.format(player, quest.getQuestName()),
+        final String formattedQuestName = TextFormatter.format(player, QuestPlaceholders.replaceQuestPlaceholders(
+                quest.getQuestName(),
                 player,
                 quest,
                 progression,
                 null,
                 null
-        );
+        ));
 
         RewardManager.sendQuestRewardItems(formattedQuestName, player, quest.getReward(), progression);
         ODailyQuestsAPI.getPlayerQuests(player.getName()).increaseCategoryAchievedQuests(quest.getCategoryName(), player);
@@ -0,0 +1,121 @@
+package com.ordwen.odailyquests.quests.player.progression.storage;
+
+import com.ordwen.odailyquests.ODailyQuests;
+import com.ordwen.odailyquests.configuration.essentials.Autosave;
+import com.ordwen.odailyquests.configuration.essentials.Debugger;
+import com.ordwen.odailyquests.quests.player.PlayerQuests;
+import com.ordwen.odailyquests.quests.player.QuestsManager;
+import com.ordwen.odailyquests.tools.PluginLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import space.arim.morepaperlib.scheduling.ScheduledTask;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Periodically persists the progression of online players whose data changed since their last save.
+ * <p>
+ * Every autosave interval, dirty players are pushed into a single write-behind queue. The queue is then
+ * drained at a bounded rate (see {@link Autosave#getPlayersPerSecond()}), so the I/O is spread over time
+ * instead of being written in one burst. Both steps run on the global region thread.
+ */
+public class AutosaveManager {
+
+    private static final long DRAIN_PERIOD_TICKS = 20L;
+
+    private final DatabaseManager databaseManager;
+
+    private final Queue<UUID> pending = new ArrayDeque<>();
+    private final Set<UUID> queued = new HashSet<>();
+
+    private ScheduledTask task;
+    private long ticksUntilCollect;
+
+    public AutosaveManager(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    /**
+     * Starts the autosave loop with the current configuration, if enabled.
+     */
+    public void start() {
+        stop();
+        if (!Autosave.isEnabled()) return;
+
+        ticksUntilCollect = Autosave.getIntervalTicks();
+        task = ODailyQuests.morePaperLib.scheduling().globalRegionalScheduler()
+                .runAtFixedRate(this::tick, DRAIN_PERIOD_TICKS, DRAIN_PERIOD_TICKS);
+    }
+
+    /**
+     * Stops the autosave loop and forgets pending players. Their data is still dirty, so it will be saved
+     * on quit, on reload or on shutdown.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        pending.clear();
+        queued.clear();
+    }
+
+    private void tick() {
+        ticksUntilCollect -= DRAIN_PERIOD_TICKS;
+        if (ticksUntilCollect <= 0) {
+            ticksUntilCollect = Autosave.getIntervalTicks();
+            collectDirtyPlayers();
+        }
+
+        drain(Autosave.getPlayersPerSecond());
+    }
+
+    /**
+     * Pushes all loaded players with unsaved changes into the queue, without duplicates.
+     */
+    private void collectDirtyPlayers() {
+        int added = 0;
+        for (Map.Entry<UUID, PlayerQuests> entry : QuestsManager.getActiveQuestsRegistry().byUuid().entrySet()) {
+            if (entry.getValue().isDirty() && queued.add(entry.getKey())) {
+                pending.add(entry.getKey());
+                added++;
+            }
+        }
+
+        final int count = added;
+        Debugger.write(() -> "AutosaveManager: " + count + " player(s) queued for autosave.");
+    }
+
+    /**
+     * Saves at most {@code limit} queued players. Players that left or have been saved meanwhile are skipped.
+     *
+     * @param limit maximum amount of players to save.
+     */
+    private void drain(int limit) {
+        int saved = 0;
+        while (saved < limit) {
+            final UUID uuid = pending.poll();
+            if (uuid == null) return;
+            queued.remove(uuid);
+
+            final PlayerQuests playerQuests = QuestsManager.getActiveQuestsRegistry().get(uuid);
+            if (playerQuests == null || !playerQuests.isDirty()) continue;
+
+            final Player player = Bukkit.getPlayer(uuid);
+            if (player == null) continue;
+
+            try {
+                databaseManager.saveProgressionForPlayer(player.getName(), uuid.toString(), playerQuests);
+            } catch (Exception e) {
+                PluginLogger.error("An error occurred while autosaving " + player.getName() + "'s data.");
+                PluginLogger.error(e.getMessage());
+            }
+            saved++;
+        }
+    }
+}
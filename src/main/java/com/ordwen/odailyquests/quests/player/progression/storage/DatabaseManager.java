@@ -15,12 +15,14 @@ import java.util.Map;
 public class DatabaseManager {
 
     private final ODailyQuests plugin;
+    private final AutosaveManager autosaveManager;
 
     private SQLManager sqlManager;
     private YamlManager yamlManager;
 
     public DatabaseManager(ODailyQuests plugin) {
         this.plugin = plugin;
+        this.autosaveManager = new AutosaveManager(this);
     }
 
     public void load() {
@@ -33,9 +35,13 @@ public class DatabaseManager {
             case SQLITE -> this.sqlManager = new SQLiteManager();
             case YAML -> this.yamlManager = new YamlManager(plugin.getFilesManager().getProgressionFile());
         }
+
+        autosaveManager.start();
     }
 
     public void close() {
+        autosaveManager.stop();
+
         if (this.sqlManager != null) {
             this.sqlManager.close();
         }
@@ -56,11 +62,24 @@ public class DatabaseManager {
     }
 
     public void saveProgressionForPlayer(String playerName, String playerUuid, PlayerQuests playerQuests) {
+        saveProgressionForPlayer(playerName, playerUuid, playerQuests, false);
+    }
+
+    /**
+     * Save the progression of a player.
+     *
+     * @param playerName   name of the player.
+     * @param playerUuid   player uuid.
+     * @param playerQuests player quests.
+     * @param release      whether this is the last save before the player is unloaded, so the storage can release
+     *                     what it keeps in memory for this player once the save completes.
+     */
+    public void saveProgressionForPlayer(String playerName, String playerUuid, PlayerQuests playerQuests, boolean release) {
         switch (Database.getMode()) {
             case YAML ->
                     yamlManager.getSaveProgressionYAML().saveProgression(playerName, playerUuid, playerQuests, plugin.isServerStopping());
             case MYSQL, SQLITE ->
-                    sqlManager.getSaveProgressionSQL().saveProgression(playerName, playerUuid, playerQuests, plugin.isServerStopping());
+                    sqlManager.getSaveProgressionSQL().saveProgression(playerName, playerUuid, playerQuests, plugin.isServerStopping(), release);
             default ->
                     PluginLogger.error("Impossible to save player quests : the selected storage mode is incorrect !");
         }
@@ -75,6 +75,9 @@ public class LoadProgressionSQL extends ProgressionLoader {
 
             final String playerUuid = player.getUniqueId().toString();
 
+            // the stored rows may have been written elsewhere, the next save must not rely on a previous state
+            sqlManager.getSaveProgressionSQL().invalidate(playerUuid);
+
             boolean hasStoredData = false;
             StoredPlayerProgression data = null;
 
@@ -14,24 +14,65 @@ import com.ordwen.odailyquests.tools.PluginLogger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saves player quests progression into an SQL database.
+ * <p>
+ * Rows are written as upserts keyed on {@code (player_uuid, player_quest_id)} and {@code (player_uuid, category)}.
+ * The last state written for each player is kept in memory, so subsequent saves only write the rows that changed
+ * and delete the rows that are no longer used. The first save after a load writes every row and purges the stored
+ * category stats. The state of a player is forgotten after their last save, when they leave.
+ */
 public class SaveProgressionSQL {
 
     /* instance of SQLManager */
     private final SQLManager sqlManager;
 
+    /* last state committed to the database, by player uuid */
+    private final Map<String, SavedState> savedStates = new ConcurrentHashMap<>();
+
+    private static final int LOCK_STRIPES = 64;
+
+    /* striped locks, so two saves of the same player never interleave */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /**
+     * Values of a single {@code odq_progression} row.
+     */
+    record ProgressRow(
+            int questIndex,
+            String category,
+            int advancement,
+            int requiredAmount,
+            double rewardAmount,
+            boolean achieved,
+            int selectedRequired
+    ) {
+    }
+
+    /**
+     * Rows committed during the last save of a player.
+     */
+    private record SavedState(List<ProgressRow> rows, Map<String, Integer> categoryStats) {
+    }
+
     /**
      * Grouped player save data.
      */
-    private record PlayerSaveData(
+    record PlayerSaveData(
             String playerName,
             String playerUuid,
             long timestamp,
             int achievedQuests,
             int totalAchievedQuests,
             int recentRerolls,
-            Map<AbstractQuest, Progression> quests,
+            List<ProgressRow> rows,
             Map<String, Integer> totalAchievedByCategory
     ) {
     }
@@ -43,6 +84,9 @@ public class SaveProgressionSQL {
      */
     public SaveProgressionSQL(SQLManager sqlManager) {
         this.sqlManager = sqlManager;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
     }
 
     /**
@@ -54,177 +98,205 @@ public class SaveProgressionSQL {
      * @param isServerStopping whether the server is stopping or a migration is in progress.
      */
     public void saveProgression(String playerName, String playerUuid, PlayerQuests playerQuests, boolean isServerStopping) {
+        saveProgression(playerName, playerUuid, playerQuests, isServerStopping, false);
+    }
+
+    /**
+     * Save player quests progression.
+     *
+     * @param playerName       name of the player.
+     * @param playerUuid       player uuid.
+     * @param playerQuests     player quests.
+     * @param isServerStopping whether the server is stopping or a migration is in progress.
+     * @param release          whether this is the last save of the player before they are unloaded, in which case
+     *                         the last saved state of the player is forgotten once the save completes.
+     */
+    public void saveProgression(String playerName, String playerUuid, PlayerQuests playerQuests, boolean isServerStopping, boolean release) {
         if (playerQuests == null) {
             PluginLogger.warn("Impossible to save progression for player " + playerName + " because playerQuests is null.");
             PluginLogger.warn("It can happen if the server is starting/reloading and the player's quests are not loaded yet.");
             return;
         }
 
-        Debugger.write("Entering saveProgression method for player " + playerName);
+        Debugger.write(() -> "Entering saveProgression method for player " + playerName);
 
-        final long timestamp = playerQuests.getTimestamp();
-        final int achievedQuests = playerQuests.getAchievedQuests();
-        final int totalAchievedQuests = playerQuests.getTotalAchievedQuests();
-        final int recentRerolls = playerQuests.getRecentlyRolled();
-
-        final Map<AbstractQuest, Progression> quests = playerQuests.getQuests();
-        final Map<String, Integer> totalAchievedByCategory = playerQuests.getTotalAchievedQuestsByCategory();
-
-        final PlayerSaveData data = new PlayerSaveData(
-                playerName,
-                playerUuid,
-                timestamp,
-                achievedQuests,
-                totalAchievedQuests,
-                recentRerolls,
-                quests,
-                totalAchievedByCategory
-        );
+        final long version = playerQuests.getVersion();
+        final PlayerSaveData data = snapshot(playerName, playerUuid, playerQuests);
 
         if (isServerStopping) {
-            Debugger.write("Saving player " + playerName + " progression (server is stopping or migration is in progress).");
-            saveDatas(data);
+            Debugger.write(() -> "Saving player " + playerName + " progression (server is stopping or migration is in progress).");
+            saveDatas(data, playerQuests, version, release);
         } else {
             ODailyQuests.morePaperLib.scheduling().asyncScheduler().run(() -> {
-                Debugger.write("Saving player " + playerName + " progression asynchronously");
-                saveDatas(data);
+                Debugger.write(() -> "Saving player " + playerName + " progression asynchronously");
+                saveDatas(data, playerQuests, version, release);
             });
         }
     }
 
     /**
-     * Save player quests progression.
+     * Copy the data to save from the player quests, so the save can run on another thread.
      *
-     * @param data grouped player save data.
+     * @param playerName   name of the player.
+     * @param playerUuid   player uuid.
+     * @param playerQuests player quests.
+     * @return grouped player save data.
+     */
+    PlayerSaveData snapshot(String playerName, String playerUuid, PlayerQuests playerQuests) {
+        final List<ProgressRow> rows = new ArrayList<>(playerQuests.getQuests().size());
+        for (Map.Entry<AbstractQuest, Progression> entry : playerQuests.getQuests().entrySet()) {
+            final AbstractQuest quest = entry.getKey();
+            final Progression progression = entry.getValue();
+
+            rows.add(new ProgressRow(
+                    quest.getQuestIndex(),
+                    quest.getCategoryName(),
+                    progression.getAdvancement(),
+                    progression.getRequiredAmount(),
+                    resolveRewardAmount(quest, progression),
+                    progression.isAchieved(),
+                    progression.getSelectedRequiredIndex()
+            ));
+        }
+
+        return new PlayerSaveData(
+                playerName,
+                playerUuid,
+                playerQuests.getTimestamp(),
+                playerQuests.getAchievedQuests(),
+                playerQuests.getTotalAchievedQuests(),
+                playerQuests.getRecentlyRolled(),
+                rows,
+                new HashMap<>(playerQuests.getTotalAchievedQuestsByCategory())
+        );
+    }
+
+    /**
+     * Forget the last saved state of a player, so the next save writes all rows again.
+     * Must be called when the player data is (re)loaded from the database, which may have been modified elsewhere.
+     *
+     * @param playerUuid player uuid.
+     */
+    public void invalidate(String playerUuid) {
+        savedStates.remove(playerUuid);
+    }
+
+    /**
+     * Save player quests progression, unless a newer snapshot of the player has already been committed.
+     *
+     * @param data         grouped player save data.
+     * @param playerQuests player quests the data has been taken from.
+     * @param version      version of the player quests when the data has been taken.
+     * @param release      whether the last saved state of the player must be forgotten once the save completes.
+     * @return true if the data has been committed.
      */
-    private void saveDatas(PlayerSaveData data) {
+    private boolean saveDatas(PlayerSaveData data, PlayerQuests playerQuests, long version, boolean release) {
+        synchronized (getLock(data.playerUuid())) {
+            try {
+                return saveDatasLocked(data, playerQuests, version);
+            } finally {
+                if (release) savedStates.remove(data.playerUuid());
+            }
+        }
+    }
+
+    private Object getLock(String playerUuid) {
+        return locks[Math.floorMod(playerUuid.hashCode(), LOCK_STRIPES)];
+    }
+
+    private boolean saveDatasLocked(PlayerSaveData data, PlayerQuests playerQuests, long version) {
         final String playerName = data.playerName();
 
+        if (playerQuests.isSavedAfter(version)) {
+            Debugger.write(() -> "Outdated save of player " + playerName + " skipped, newer data already saved.");
+            return false;
+        }
+
         try (final Connection conn = sqlManager.getConnection()) {
             if (conn == null) {
                 PluginLogger.error("Database connection unavailable");
-                return;
+                return false;
             }
             saveDatasTransactional(conn, data);
+            playerQuests.markSaved(version);
+            return true;
         } catch (SQLException e) {
-            Debugger.write("An error occurred while saving player " + playerName + " data (connection).");
+            Debugger.write(() -> "An error occurred while saving player " + playerName + " data (connection).");
             Debugger.write(e.getMessage());
             PluginLogger.error("An error occurred while saving player " + playerName + " data (connection).");
             PluginLogger.error(e.getMessage());
+            return false;
         }
     }
 
-    private void saveDatasTransactional(Connection conn, PlayerSaveData data) throws SQLException {
+    /**
+     * Write the data of a player in a single transaction, starting from the last state saved for this player.
+     *
+     * @param conn database connection.
+     * @param data grouped player save data.
+     * @throws SQLException if a database error occurs, the transaction is then rolled back.
+     */
+    void saveDatasTransactional(Connection conn, PlayerSaveData data) throws SQLException {
         final String playerName = data.playerName();
         final String playerUuid = data.playerUuid();
-        final long timestamp = data.timestamp();
-        final int achievedQuests = data.achievedQuests();
-        final int totalAchievedQuests = data.totalAchievedQuests();
-        final int recentRerolls = data.recentRerolls();
 
-        Map<AbstractQuest, Progression> quests = data.quests();
-        Map<String, Integer> totalAchievedByCategory = data.totalAchievedByCategory();
+        final List<ProgressRow> rows = data.rows();
+        final Map<String, Integer> totalAchievedByCategory = data.totalAchievedByCategory();
+
+        // without a known previous state, every row is written and every stale row is purged
+        final SavedState previous = savedStates.get(playerUuid);
+        final boolean isMySQL = Database.getMode() == StorageMode.MYSQL;
 
         final boolean oldAutoCommit = conn.getAutoCommit();
         conn.setAutoCommit(false);
 
         try {
-            // 0) Purge old progression data
-            final String deleteProgressQuery = (Database.getMode() == StorageMode.MYSQL)
-                    ? SQLQuery.MYSQL_DELETE_PROGRESS.getQuery()
-                    : SQLQuery.SQLITE_DELETE_PROGRESS.getQuery();
-
-            try (PreparedStatement deleteProgress = conn.prepareStatement(deleteProgressQuery)) {
-                deleteProgress.setString(1, playerUuid);
-                deleteProgress.executeUpdate();
-                Debugger.write("Old progression rows cleared for player " + playerName);
-            }
-
-            // 0bis) Purge old category stats
-            final String deleteCategoryQuery = (Database.getMode() == StorageMode.MYSQL)
-                    ? SQLQuery.MYSQL_DELETE_PLAYER_CATEGORY_STATS.getQuery()
-                    : SQLQuery.SQLITE_DELETE_PLAYER_CATEGORY_STATS.getQuery();
-
-            try (PreparedStatement deleteCategory = conn.prepareStatement(deleteCategoryQuery)) {
-                deleteCategory.setString(1, playerUuid);
-                deleteCategory.executeUpdate();
-                Debugger.write("Old category stats cleared for player " + playerName);
-            }
-
             // 1) Save player main data
-            final String playerQuery = (Database.getMode() == StorageMode.MYSQL)
+            final String playerQuery = isMySQL
                     ? SQLQuery.MYSQL_SAVE_PLAYER.getQuery()
                     : SQLQuery.SQLITE_SAVE_PLAYER.getQuery();
 
             try (PreparedStatement playerStatement = conn.prepareStatement(playerQuery)) {
                 playerStatement.setString(1, playerUuid);
-                playerStatement.setLong(2, timestamp);
-                playerStatement.setInt(3, achievedQuests);
-                playerStatement.setInt(4, totalAchievedQuests);
-                playerStatement.setInt(5, recentRerolls);
+                playerStatement.setLong(2, data.timestamp());
+                playerStatement.setInt(3, data.achievedQuests());
+                playerStatement.setInt(4, data.totalAchievedQuests());
+                playerStatement.setInt(5, data.recentRerolls());
                 playerStatement.executeUpdate();
 
-                Debugger.write("Player " + playerName + " data saved");
+                Debugger.write(() -> "Player " + playerName + " data saved");
             }
 
-            // 2) Save quests progression
-            final String progressQuery = (Database.getMode() == StorageMode.MYSQL)
-                    ? SQLQuery.MYSQL_SAVE_PROGRESS.getQuery()
-                    : SQLQuery.SQLITE_SAVE_PROGRESS.getQuery();
-
-            try (PreparedStatement progressionStatement = conn.prepareStatement(progressQuery)) {
-                progressionStatement.setString(1, playerUuid);
-
-                int index = 0;
-                for (Map.Entry<AbstractQuest, Progression> entry : quests.entrySet()) {
-                    final AbstractQuest quest = entry.getKey();
-                    final Progression progression = entry.getValue();
+            // 2) Upsert changed quests progression
+            saveChangedProgression(conn, data, previous, isMySQL);
 
-                    progressionStatement.setInt(2, index);
-                    progressionStatement.setInt(3, quest.getQuestIndex());
-                    progressionStatement.setString(4, quest.getCategoryName());
-                    progressionStatement.setInt(5, progression.getAdvancement());
-                    progressionStatement.setInt(6, progression.getRequiredAmount());
-                    progressionStatement.setDouble(7, resolveRewardAmount(quest, progression));
-                    progressionStatement.setBoolean(8, progression.isAchieved());
-                    progressionStatement.setInt(9, progression.getSelectedRequiredIndex());
+            // 3) Delete rows of quest slots that no longer exist
+            if (previous == null || previous.rows().size() > rows.size()) {
+                final String deleteProgressQuery = isMySQL
+                        ? SQLQuery.MYSQL_DELETE_PROGRESS_FROM.getQuery()
+                        : SQLQuery.SQLITE_DELETE_PROGRESS_FROM.getQuery();
 
-                    progressionStatement.addBatch();
-
-                    Debugger.write("Quest number " + index + " saved for player " + playerName);
-                    index++;
+                try (PreparedStatement deleteProgress = conn.prepareStatement(deleteProgressQuery)) {
+                    deleteProgress.setString(1, playerUuid);
+                    deleteProgress.setInt(2, rows.size());
+                    final int deleted = deleteProgress.executeUpdate();
+                    Debugger.write(() -> deleted + " stale progression row(s) cleared for player " + playerName);
                 }
-
-                progressionStatement.executeBatch();
-                Debugger.write(playerName + " quests progression saved");
             }
 
-            // 3) Save stats by category
-            final String categoryQuery = (Database.getMode() == StorageMode.MYSQL)
-                    ? SQLQuery.MYSQL_SAVE_PLAYER_CATEGORY_STATS.getQuery()
-                    : SQLQuery.SQLITE_SAVE_PLAYER_CATEGORY_STATS.getQuery();
-
-            try (PreparedStatement categoryStatement = conn.prepareStatement(categoryQuery)) {
-                categoryStatement.setString(1, playerUuid);
-
-                for (Map.Entry<String, Integer> entry : totalAchievedByCategory.entrySet()) {
-                    categoryStatement.setString(2, entry.getKey());
-                    categoryStatement.setInt(3, entry.getValue());
-                    categoryStatement.addBatch();
-                }
-
-                categoryStatement.executeBatch();
-                Debugger.write(playerName + "'s category stats saved.");
-            }
+            // 4) Upsert changed stats by category, delete removed ones
+            saveChangedCategoryStats(conn, data, previous, isMySQL);
 
             conn.commit();
+            savedStates.put(playerUuid, new SavedState(List.copyOf(rows), Map.copyOf(totalAchievedByCategory)));
+
             if (Logs.isEnabled()) {
                 PluginLogger.info(playerName + "'s data saved.");
             }
 
         } catch (SQLException e) {
             conn.rollback();
-            Debugger.write("An error occurred while saving player " + playerName + " data (rolled back).");
+            Debugger.write(() -> "An error occurred while saving player " + playerName + " data (rolled back).");
             Debugger.write(e.getMessage());
             PluginLogger.error("An error occurred while saving player " + playerName + " data.");
             PluginLogger.error(e.getMessage());
@@ -234,6 +306,133 @@ public class SaveProgressionSQL {
         }
     }
 
+    /**
+     * Upsert the progression rows that differ from the previously saved state.
+     *
+     * @param conn     database connection.
+     * @param data     grouped player save data.
+     * @param previous last saved state, or null to write all rows.
+     * @param isMySQL  whether the MySQL dialect must be used.
+     * @throws SQLException if a database error occurs.
+     */
+    private void saveChangedProgression(Connection conn, PlayerSaveData data, SavedState previous, boolean isMySQL) throws SQLException {
+        final String playerName = data.playerName();
+        final List<ProgressRow> rows = data.rows();
+
+        final String progressQuery = isMySQL
+                ? SQLQuery.MYSQL_SAVE_PROGRESS.getQuery()
+                : SQLQuery.SQLITE_SAVE_PROGRESS.getQuery();
+
+        try (PreparedStatement progressionStatement = conn.prepareStatement(progressQuery)) {
+            progressionStatement.setString(1, data.playerUuid());
+
+            int changed = 0;
+            for (int index = 0; index < rows.size(); index++) {
+                final ProgressRow row = rows.get(index);
+                if (previous != null && index < previous.rows().size() && previous.rows().get(index).equals(row)) {
+                    continue;
+                }
+
+                progressionStatement.setInt(2, index);
+                progressionStatement.setInt(3, row.questIndex());
+                progressionStatement.setString(4, row.category());
+                progressionStatement.setInt(5, row.advancement());
+                progressionStatement.setInt(6, row.requiredAmount());
+                progressionStatement.setDouble(7, row.rewardAmount());
+                progressionStatement.setBoolean(8, row.achieved());
+                progressionStatement.setInt(9, row.selectedRequired());
+                progressionStatement.addBatch();
+                changed++;
+            }
+
+            if (changed > 0) {
+                progressionStatement.executeBatch();
+            }
+
+            final int count = changed;
+            Debugger.write(() -> playerName + " quests progression saved (" + count + " row(s) written).");
+        }
+    }
+
+    /**
+     * Upsert the category stats that differ from the previously saved state, and delete the removed ones.
+     * Without a previous state, all stored stats of the player are purged first.
+     *
+     * @param conn     database connection.
+     * @param data     grouped player save data.
+     * @param previous last saved state, or null to write all stats.
+     * @param isMySQL  whether the MySQL dialect must be used.
+     * @throws SQLException if a database error occurs.
+     */
+    private void saveChangedCategoryStats(Connection conn, PlayerSaveData data, SavedState previous, boolean isMySQL) throws SQLException {
+        final String playerName = data.playerName();
+        final Map<String, Integer> totalAchievedByCategory = data.totalAchievedByCategory();
+
+        // without a known previous state, the stored stats are unknown: purge them all before writing
+        if (previous == null) {
+            final String deleteAllQuery = isMySQL
+                    ? SQLQuery.MYSQL_DELETE_PLAYER_CATEGORY_STATS.getQuery()
+                    : SQLQuery.SQLITE_DELETE_PLAYER_CATEGORY_STATS.getQuery();
+
+            try (PreparedStatement deleteAll = conn.prepareStatement(deleteAllQuery)) {
+                deleteAll.setString(1, data.playerUuid());
+                deleteAll.executeUpdate();
+                Debugger.write(() -> "Old category stats cleared for player " + playerName);
+            }
+        }
+
+        final String categoryQuery = isMySQL
+                ? SQLQuery.MYSQL_SAVE_PLAYER_CATEGORY_STATS.getQuery()
+                : SQLQuery.SQLITE_SAVE_PLAYER_CATEGORY_STATS.getQuery();
+
+        try (PreparedStatement categoryStatement = conn.prepareStatement(categoryQuery)) {
+            categoryStatement.setString(1, data.playerUuid());
+
+            int changed = 0;
+            for (Map.Entry<String, Integer> entry : totalAchievedByCategory.entrySet()) {
+                if (previous != null && Objects.equals(previous.categoryStats().get(entry.getKey()), entry.getValue())) {
+                    continue;
+                }
+
+                categoryStatement.setString(2, entry.getKey());
+                categoryStatement.setInt(3, entry.getValue());
+                categoryStatement.addBatch();
+                changed++;
+            }
+
+            if (changed > 0) {
+                categoryStatement.executeBatch();
+            }
+
+            final int count = changed;
+            Debugger.write(() -> playerName + "'s category stats saved (" + count + " row(s) written).");
+        }
+
+        if (previous == null) return;
+
+        final List<String> removed = new ArrayList<>();
+        for (String category : previous.categoryStats().keySet()) {
+            if (!totalAchievedByCategory.containsKey(category)) {
+                removed.add(category);
+            }
+        }
+
+        if (removed.isEmpty()) return;
+
+        final String deleteCategoryQuery = isMySQL
+                ? SQLQuery.MYSQL_DELETE_PLAYER_CATEGORY_STAT.getQuery()
+                : SQLQuery.SQLITE_DELETE_PLAYER_CATEGORY_STAT.getQuery();
+
+        try (PreparedStatement deleteCategory = conn.prepareStatement(deleteCategoryQuery)) {
+            deleteCategory.setString(1, data.playerUuid());
+            for (String category : removed) {
+                deleteCategory.setString(2, category);
+                deleteCategory.addBatch();
+            }
+            deleteCategory.executeBatch();
+        }
+    }
+
     /**
      * Resolve and cache the reward amount for a quest progression.
      *
@@ -7,10 +7,8 @@ import com.ordwen.odailyquests.quests.types.AbstractQuest;
 import com.ordwen.odailyquests.quests.player.PlayerQuests;
 import com.ordwen.odailyquests.quests.player.progression.Progression;
 import com.ordwen.odailyquests.quests.player.progression.QuestLoaderUtils;
-import com.ordwen.odailyquests.files.implementations.ProgressionFile;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
 import java.util.HashMap;
@@ -19,10 +17,10 @@ import java.util.Map;
 
 public class LoadProgressionYAML extends ProgressionLoader {
 
-    private final ProgressionFile progressionFile;
+    private final PlayerProgressionFiles playerFiles;
 
-    public LoadProgressionYAML(ProgressionFile progressionFile) {
-        this.progressionFile = progressionFile;
+    public LoadProgressionYAML(PlayerProgressionFiles playerFiles) {
+        this.playerFiles = playerFiles;
     }
 
     public void loadPlayerQuests(String playerName, Map<String, PlayerQuests> activeQuests, boolean sendStatusMessage) {
@@ -30,7 +28,6 @@ public class LoadProgressionYAML extends ProgressionLoader {
 
         ODailyQuests.morePaperLib.scheduling().asyncScheduler().run(() -> {
             Debugger.write("Running async task to load progression of " + playerName + " from YAML file.");
-            final FileConfiguration config = progressionFile.getConfig();
             final Player player = Bukkit.getPlayer(playerName);
 
             if (player == null) {
@@ -39,7 +36,7 @@ public class LoadProgressionYAML extends ProgressionLoader {
             }
 
             final String playerUuid = player.getUniqueId().toString();
-            final ConfigurationSection playerSection = config.getConfigurationSection(playerUuid);
+            final ConfigurationSection playerSection = playerFiles.read(playerUuid);
 
             if (playerSection == null) {
                 handleNewPlayer(playerName, activeQuests);
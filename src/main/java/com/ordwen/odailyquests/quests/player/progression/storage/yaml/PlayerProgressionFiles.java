@@ -0,0 +1,169 @@
+package com.ordwen.odailyquests.quests.player.progression.storage.yaml;
+
+import com.ordwen.odailyquests.ODailyQuests;
+import com.ordwen.odailyquests.files.implementations.ProgressionFile;
+import com.ordwen.odailyquests.tools.PluginLogger;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Stores the YAML progression of each player in its own file, at {@code progression/<uuid prefix>/<uuid>.yml}.
+ * <p>
+ * Files are written to a temporary file first, then moved over the previous one, so a crash during a save
+ * never leaves a truncated file. Players that have not been saved since this storage was introduced are
+ * still read from the legacy {@code progression.yml}, which is never written anymore.
+ */
+public class PlayerProgressionFiles {
+
+    private static final String DIRECTORY = "progression";
+    private static final String EXTENSION = ".yml";
+    private static final int SHARD_LENGTH = 2;
+    private static final int LOCK_STRIPES = 64;
+
+    private final ProgressionFile legacyFile;
+    private final File directory;
+
+    /* striped locks, so two saves of the same player never write the same file at the same time */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public PlayerProgressionFiles(ProgressionFile legacyFile) {
+        this.legacyFile = legacyFile;
+        this.directory = new File(ODailyQuests.INSTANCE.getDataFolder(), DIRECTORY);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Read the stored data of a player.
+     *
+     * @param playerUuid player uuid.
+     * @return the player data, or null if the player has no stored data.
+     */
+    public ConfigurationSection read(String playerUuid) {
+        final File file = getFile(playerUuid);
+
+        if (file.exists()) {
+            synchronized (getLock(playerUuid)) {
+                final YamlConfiguration config = new YamlConfiguration();
+                try {
+                    config.load(file);
+                    return config;
+                } catch (IOException | InvalidConfigurationException e) {
+                    PluginLogger.error("An error occurred while loading the progression file of " + playerUuid + ".");
+                    PluginLogger.error(e.getMessage());
+                    return null;
+                }
+            }
+        }
+
+        final FileConfiguration legacy = legacyFile.getConfig();
+        return legacy == null ? null : legacy.getConfigurationSection(playerUuid);
+    }
+
+    /**
+     * Atomically replace the stored data of a player, if a condition still holds once the player file is locked.
+     *
+     * @param playerUuid player uuid.
+     * @param data       player data to write.
+     * @param condition  checked while holding the player lock, the data is not written if it returns false.
+     * @param onWritten  run while still holding the player lock, once the data has been written.
+     * @return true if the data has been written.
+     */
+    public boolean write(String playerUuid, YamlConfiguration data, BooleanSupplier condition, Runnable onWritten) {
+        final File file = getFile(playerUuid);
+        final File shard = file.getParentFile();
+
+        synchronized (getLock(playerUuid)) {
+            if (!condition.getAsBoolean()) return false;
+
+            Path temp = null;
+            try {
+                Files.createDirectories(shard.toPath());
+                temp = Files.createTempFile(shard.toPath(), playerUuid, ".tmp");
+                Files.writeString(temp, data.saveToString(), StandardCharsets.UTF_8);
+                move(temp, file.toPath());
+                onWritten.run();
+                return true;
+            } catch (IOException e) {
+                PluginLogger.error("An error happened on the save of the progression file of " + playerUuid + ".");
+                PluginLogger.error("If the problem persists, contact the developer.");
+                PluginLogger.error(e.getMessage());
+                deleteQuietly(temp);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Build a single configuration holding the data of every stored player, keyed by uuid.
+     * Per-player files take precedence over the legacy file. Used by the storage converters.
+     *
+     * @return a configuration containing all players data.
+     */
+    public FileConfiguration exportAll() {
+        final YamlConfiguration all = new YamlConfiguration();
+
+        final FileConfiguration legacy = legacyFile.getConfig();
+        if (legacy != null) {
+            for (String playerUuid : legacy.getKeys(false)) {
+                all.set(playerUuid, legacy.getConfigurationSection(playerUuid));
+            }
+        }
+
+        final File[] shards = directory.listFiles(File::isDirectory);
+        if (shards == null) return all;
+
+        for (File shard : shards) {
+            final File[] files = shard.listFiles((dir, name) -> name.endsWith(EXTENSION));
+            if (files == null) continue;
+
+            for (File file : files) {
+                final String playerUuid = file.getName().substring(0, file.getName().length() - EXTENSION.length());
+                final ConfigurationSection data = read(playerUuid);
+                if (data != null) {
+                    all.set(playerUuid, data);
+                }
+            }
+        }
+
+        return all;
+    }
+
+    private File getFile(String playerUuid) {
+        final String shard = playerUuid.length() >= SHARD_LENGTH ? playerUuid.substring(0, SHARD_LENGTH) : playerUuid;
+        return new File(new File(directory, shard), playerUuid + EXTENSION);
+    }
+
+    private Object getLock(String playerUuid) {
+        return locks[Math.floorMod(playerUuid.hashCode(), LOCK_STRIPES)];
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // nothing more to do, the temporary file will be overwritten by the next save
+        }
+    }
+}
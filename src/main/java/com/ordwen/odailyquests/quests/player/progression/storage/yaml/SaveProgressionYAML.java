@@ -2,53 +2,51 @@ package com.ordwen.odailyquests.quests.player.progression.storage.yaml;
 
 import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.configuration.essentials.Logs;
-import com.ordwen.odailyquests.files.implementations.ProgressionFile;
 import com.ordwen.odailyquests.quests.types.AbstractQuest;
 import com.ordwen.odailyquests.quests.player.PlayerQuests;
 import com.ordwen.odailyquests.quests.player.progression.Progression;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
 
-import java.io.IOException;
 import java.util.Map;
 
 public class SaveProgressionYAML {
 
-    private final ProgressionFile progressionFile;
+    private final PlayerProgressionFiles playerFiles;
 
-    public SaveProgressionYAML(ProgressionFile progressionFile) {
-        this.progressionFile = progressionFile;
+    public SaveProgressionYAML(PlayerProgressionFiles playerFiles) {
+        this.playerFiles = playerFiles;
     }
 
     public void saveProgression(String playerName, String playerUuid, PlayerQuests playerQuests, boolean isServerStopping) {
-        if (isServerStopping) updateFile(playerName, playerUuid, playerQuests);
-        else ODailyQuests.morePaperLib.scheduling().asyncScheduler().run(() -> updateFile(playerName, playerUuid, playerQuests));
-    }
-
-    private void updateFile(String playerName, String playerUuid, PlayerQuests playerQuests) {
-        final FileConfiguration config = progressionFile.getConfig();
-
-        config.set(playerUuid, null);
+        final long version = playerQuests.getVersion();
+        final YamlConfiguration data = buildPlayerData(playerQuests);
 
-        final long timestamp = playerQuests.getTimestamp();
-        final int achievedQuests = playerQuests.getAchievedQuests();
-        final int totalAchievedQuests = playerQuests.getTotalAchievedQuests();
-        final int recentRerolls = playerQuests.getRecentlyRolled();
+        if (isServerStopping) writeFile(playerName, playerUuid, playerQuests, version, data);
+        else ODailyQuests.morePaperLib.scheduling().asyncScheduler().run(() -> writeFile(playerName, playerUuid, playerQuests, version, data));
+    }
 
-        final Map<AbstractQuest, Progression> quests = playerQuests.getQuests();
+    /**
+     * Snapshot the player data into a standalone configuration, on the calling thread.
+     *
+     * @param playerQuests player quests.
+     * @return the configuration to write in the player file.
+     */
+    private YamlConfiguration buildPlayerData(PlayerQuests playerQuests) {
+        final YamlConfiguration config = new YamlConfiguration();
 
-        config.set(playerUuid + ".timestamp", timestamp);
-        config.set(playerUuid + ".achievedQuests", achievedQuests);
-        config.set(playerUuid + ".totalAchievedQuests", totalAchievedQuests);
-        config.set(playerUuid + ".recentRerolls", recentRerolls);
+        config.set("timestamp", playerQuests.getTimestamp());
+        config.set("achievedQuests", playerQuests.getAchievedQuests());
+        config.set("totalAchievedQuests", playerQuests.getTotalAchievedQuests());
+        config.set("recentRerolls", playerQuests.getRecentlyRolled());
 
         int index = 1;
-        for (Map.Entry<AbstractQuest, Progression> entry : quests.entrySet()) {
+        for (Map.Entry<AbstractQuest, Progression> entry : playerQuests.getQuests().entrySet()) {
             final AbstractQuest quest = entry.getKey();
             final Progression progression = entry.getValue();
 
-            final ConfigurationSection questSection = config.createSection(playerUuid + ".quests." + index);
+            final ConfigurationSection questSection = config.createSection("quests." + index);
             questSection.set("index", quest.getQuestIndex());
             questSection.set("category", quest.getCategoryName());
             questSection.set("progression", progression.getAdvancement());
@@ -60,23 +58,20 @@ public class SaveProgressionYAML {
             index++;
         }
 
-        final ConfigurationSection statsSection = config.createSection(playerUuid + ".totalAchievedQuestsByCategory");
+        final ConfigurationSection statsSection = config.createSection("totalAchievedQuestsByCategory");
         for (Map.Entry<String, Integer> entry : playerQuests.getTotalAchievedQuestsByCategory().entrySet()) {
-            final String category = entry.getKey();
-            final int amount = entry.getValue();
-            statsSection.set(category, amount);
+            statsSection.set(entry.getKey(), entry.getValue());
         }
 
+        return config;
+    }
+
+    private void writeFile(String playerName, String playerUuid, PlayerQuests playerQuests, long version, YamlConfiguration data) {
+        final boolean written = playerFiles.write(playerUuid, data, () -> !playerQuests.isSavedAfter(version), () -> playerQuests.markSaved(version));
+        if (!written) return;
+
         if (Logs.isEnabled()) {
             PluginLogger.info(playerName + "'s data saved.");
         }
-
-        try {
-            config.save(progressionFile.getFile());
-        } catch (IOException e) {
-            PluginLogger.error("An error happened on the save of the progression file.");
-            PluginLogger.error("If the problem persists, contact the developer.");
-            PluginLogger.error(e.getMessage());
-        }
     }
-}
\ No newline at end of file
+}
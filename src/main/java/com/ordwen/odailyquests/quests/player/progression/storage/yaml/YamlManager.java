@@ -8,8 +8,9 @@ public class YamlManager {
     private final SaveProgressionYAML saveProgressionYAML;
 
     public YamlManager(ProgressionFile progressionFile) {
-        this.loadProgressionYAML = new LoadProgressionYAML(progressionFile);
-        this.saveProgressionYAML = new SaveProgressionYAML(progressionFile);
+        final PlayerProgressionFiles playerFiles = new PlayerProgressionFiles(progressionFile);
+        this.loadProgressionYAML = new LoadProgressionYAML(playerFiles);
+        this.saveProgressionYAML = new SaveProgressionYAML(playerFiles);
     }
 
     /**
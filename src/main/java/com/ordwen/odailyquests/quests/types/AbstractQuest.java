@@ -8,6 +8,7 @@ import com.ordwen.odailyquests.quests.types.shared.BasicQuest;
 import com.ordwen.odailyquests.rewards.Reward;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import org.bukkit.ChatColor;
+import org.bukkit.NamespacedKey;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
 
@@ -22,6 +23,11 @@ import java.util.List;
  */
 public abstract class AbstractQuest extends PlayerProgressor implements IQuest {
 
+    /* keys identifying the menu items of the quests validated by clicking them, in the namespace of the plugin */
+    public static final NamespacedKey QUEST_TYPE_KEY = NamespacedKey.fromString("odailyquests:quest_type");
+    public static final NamespacedKey QUEST_INDEX_KEY = NamespacedKey.fromString("odailyquests:quest_index");
+    public static final NamespacedKey FILE_NAME_KEY = NamespacedKey.fromString("odailyquests:file_name");
+
     final int questIndex;
     final String fileIndex;
     final String questName;
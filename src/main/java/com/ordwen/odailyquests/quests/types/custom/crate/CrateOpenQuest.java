@@ -101,7 +101,7 @@ public class CrateOpenQuest extends AbstractQuest {
     public boolean canProgress(@Nullable Event provided, Progression progression) {
         if (provided instanceof CrateOpenEvent event) {
             final String crate = event.getCrate().getName();
-            Debugger.write("CrateOpenQuest: canProgress checking crate " + crate);
+            Debugger.write(() -> "CrateOpenQuest: canProgress checking crate " + crate);
             return expectedCrate.isEmpty() || expectedCrate.contains(crate.toLowerCase());
         }
         return false;
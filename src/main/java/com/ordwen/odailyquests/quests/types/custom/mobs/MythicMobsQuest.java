@@ -24,7 +24,7 @@ public class MythicMobsQuest extends CustomMobQuest {
     public boolean canProgress(Event provided, Progression progression) {
         if (provided instanceof MythicMobDeathEvent event) {
             Debugger.write("MythicMobsQuest: Checking if required entity was killed.");
-            Debugger.write("MythicMobsQuest: Killed entity: " + event.getMobType().getInternalName());
+            Debugger.write(() -> "MythicMobsQuest: Killed entity: " + event.getMobType().getInternalName());
             return super.isRequiredEntity(event.getMobType().getInternalName());
         }
         return false;
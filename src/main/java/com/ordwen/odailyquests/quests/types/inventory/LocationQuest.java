@@ -1,13 +1,11 @@
 package com.ordwen.odailyquests.quests.types.inventory;
 
-import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.quests.player.progression.Progression;
 import com.ordwen.odailyquests.quests.types.AbstractQuest;
 import com.ordwen.odailyquests.quests.types.shared.BasicQuest;
 import com.ordwen.odailyquests.tools.PluginLogger;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.event.Event;
@@ -22,6 +20,7 @@ public class LocationQuest extends AbstractQuest {
 
     Location requiredLocation;
     int radius;
+    private long radiusSquared;
 
     public LocationQuest(BasicQuest base) {
         super(base);
@@ -51,6 +50,7 @@ public class LocationQuest extends AbstractQuest {
         }
 
         radius = locationSection.getInt(".radius");
+        radiusSquared = (long) radius * radius;
 
         final String wd = locationSection.getString(".world");
         if (wd == null) {
@@ -76,9 +76,9 @@ public class LocationQuest extends AbstractQuest {
         if (meta == null) return false;
 
         final PersistentDataContainer container = meta.getPersistentDataContainer();
-        container.set(new NamespacedKey(ODailyQuests.INSTANCE, "quest_type"), PersistentDataType.STRING, LOCATION_PATH);
-        container.set(new NamespacedKey(ODailyQuests.INSTANCE, "quest_index"), PersistentDataType.STRING, index);
-        container.set(new NamespacedKey(ODailyQuests.INSTANCE, "file_name"), PersistentDataType.STRING, file);
+        container.set(QUEST_TYPE_KEY, PersistentDataType.STRING, LOCATION_PATH);
+        container.set(QUEST_INDEX_KEY, PersistentDataType.STRING, index);
+        container.set(FILE_NAME_KEY, PersistentDataType.STRING, file);
 
         menuItem.setItemMeta(meta);
 
@@ -94,6 +94,20 @@ public class LocationQuest extends AbstractQuest {
         return this.requiredLocation;
     }
 
+    /**
+     * Check if a location is within the radius of the location required by the quest.
+     * The world must be checked beforehand.
+     *
+     * @param location location to check.
+     * @return true if the location is close enough to the required location.
+     */
+    public boolean isInRange(Location location) {
+        final double dx = location.getX() - requiredLocation.getX();
+        final double dy = location.getY() - requiredLocation.getY();
+        final double dz = location.getZ() - requiredLocation.getZ();
+        return dx * dx + dy * dy + dz * dz <= radiusSquared;
+    }
+
     /**
      * Get the radius of the location required by the quest.
      *
@@ -1,12 +1,10 @@
 package com.ordwen.odailyquests.quests.types.inventory;
 
-import com.ordwen.odailyquests.ODailyQuests;
 import com.ordwen.odailyquests.quests.conditions.ConditionOperator;
 import com.ordwen.odailyquests.quests.player.progression.Progression;
 import com.ordwen.odailyquests.quests.types.AbstractQuest;
 import com.ordwen.odailyquests.quests.types.shared.BasicQuest;
 import com.ordwen.odailyquests.tools.PluginLogger;
-import org.bukkit.NamespacedKey;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.event.Event;
 import org.bukkit.inventory.ItemStack;
@@ -80,9 +78,9 @@ public class PlaceholderQuest extends AbstractQuest {
         if (meta == null) return false;
 
         final PersistentDataContainer container = meta.getPersistentDataContainer();
-        container.set(new NamespacedKey(ODailyQuests.INSTANCE, "quest_type"), PersistentDataType.STRING, "placeholder");
-        container.set(new NamespacedKey(ODailyQuests.INSTANCE, "quest_index"), PersistentDataType.STRING, index);
-        container.set(new NamespacedKey(ODailyQuests.INSTANCE, "file_name"), PersistentDataType.STRING, file);
+        container.set(QUEST_TYPE_KEY, PersistentDataType.STRING, "placeholder");
+        container.set(QUEST_INDEX_KEY, PersistentDataType.STRING, index);
+        container.set(FILE_NAME_KEY, PersistentDataType.STRING, file);
 
         return true;
     }
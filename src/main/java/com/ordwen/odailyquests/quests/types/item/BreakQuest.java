@@ -42,7 +42,7 @@ public class BreakQuest extends ItemQuest {
             if (!this.isProtectionBypass() && !Protection.canBuild(event.getPlayer(), block, "BLOCK_BREAK"))
                 return false;
 
-            Debugger.write("BlockBreakListener: onBlockBreakEvent summoned by " + event.getPlayer().getName() + " for " + block.getType() + ".");
+            Debugger.write(() -> "BlockBreakListener: onBlockBreakEvent summoned by " + event.getPlayer().getName() + " for " + block.getType() + ".");
 
             Material material = switch (block.getType()) {
                 case POTATOES -> Material.POTATO;
@@ -54,12 +54,12 @@ public class BreakQuest extends ItemQuest {
             };
 
             if (!material.isItem()) {
-                Debugger.write("BreakQuest: canProgress material is not an item: " + material);
+                Debugger.write(() -> "BreakQuest: canProgress material is not an item: " + material);
                 Debugger.write("BreakQuest: cancelling event.");
                 return false;
             }
 
-            Debugger.write("BreakQuest: canProgress material: " + material);
+            Debugger.write(() -> "BreakQuest: canProgress material: " + material);
             return super.isRequiredItem(new ItemStack(material), progression);
         }
 
@@ -72,7 +72,7 @@ public class BreakQuest extends ItemQuest {
 
             final ItemStack cropItem = getCustomItemStack(cropNamespace);
             if (cropItem == null) {
-                Debugger.write("CropBreakListener: onCropBreak: The crop item " + cropNamespace + " does not exist.");
+                Debugger.write(() -> "CropBreakListener: onCropBreak: The crop item " + cropNamespace + " does not exist.");
                 return false;
             }
 
@@ -142,18 +142,20 @@ public class FarmingQuest extends ItemQuest {
      * @return a corresponding {@link ItemStack} if the material is valid and represents an item; otherwise {@code null}
      */
     private @Nullable ItemStack getNormalizedBlockItem(Material material) {
-        String blockType = material.name();
+        final String materialName = material.name();
+        final boolean isPlant = materialName.endsWith("_PLANT");
 
-        if (blockType.endsWith("_PLANT")) {
-            Debugger.write("FarmingQuest:canProgress: Block is a plant: " + blockType + ".");
-            blockType = blockType.substring(0, blockType.length() - 6);
+        if (isPlant) {
+            Debugger.write(() -> "FarmingQuest:canProgress: Block is a plant: " + materialName + ".");
         }
 
-        Debugger.write("FarmingQuest:canProgress: Potential vertical plant. Checking for type " + blockType + ".");
+        final String blockType = isPlant ? materialName.substring(0, materialName.length() - 6) : materialName;
+
+        Debugger.write(() -> "FarmingQuest:canProgress: Potential vertical plant. Checking for type " + blockType + ".");
 
         Material itemMaterial = Material.getMaterial(blockType);
         if (itemMaterial == null || !itemMaterial.isItem()) {
-            Debugger.write("FarmingQuest:canProgress: Material " + blockType + " is not valid.");
+            Debugger.write(() -> "FarmingQuest:canProgress: Material " + blockType + " is not valid.");
             return null;
         }
 
@@ -8,8 +8,11 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.EntityType;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * {@code EntityQuest} is an abstract base class for quests that require
@@ -43,6 +46,11 @@ public abstract class EntityQuest extends AbstractQuest {
      */
     private final List<EntityType> requiredEntities;
 
+    /**
+     * Immutable set view of {@link #requiredEntities}, built once the quest is loaded.
+     */
+    private Set<EntityType> requiredEntityTypes = Collections.emptySet();
+
     /**
      * Optional color hint (e.g., for sheep or other dyeable entities).
      */
@@ -84,13 +92,19 @@ public abstract class EntityQuest extends AbstractQuest {
             return false;
         }
 
+        final boolean loaded;
         if (hasRandomRequired) {
             super.isRandomRequired = true;
-            return loadRequiredEntities(section, file, index, ".random_required");
+            loaded = loadRequiredEntities(section, file, index, ".random_required");
         } else {
-            return loadRequiredEntities(section, file, index, ".required_entity")
+            loaded = loadRequiredEntities(section, file, index, ".required_entity")
                     && loadRequiredEntities(section, file, index, ".required");
         }
+
+        if (loaded && !requiredEntities.isEmpty()) {
+            requiredEntityTypes = Collections.unmodifiableSet(EnumSet.copyOf(requiredEntities));
+        }
+        return loaded;
     }
 
     /**
@@ -230,7 +244,7 @@ public abstract class EntityQuest extends AbstractQuest {
         if (isRandomRequired) {
             return entityType == requiredEntities.get(progression.getSelectedRequiredIndex());
         }
-        return requiredEntities == null || requiredEntities.isEmpty() || requiredEntities.contains(entityType);
+        return requiredEntityTypes.isEmpty() || requiredEntityTypes.contains(entityType);
     }
 
     /**
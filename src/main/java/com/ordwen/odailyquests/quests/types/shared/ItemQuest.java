@@ -14,6 +14,9 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.PotionMeta;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -60,6 +63,15 @@ public abstract class ItemQuest extends AbstractQuest {
     /** If {@code true}, NBT is ignored when matching required vs. provided items (with potion safeguards). */
     private boolean ignoreNbt = false;
 
+    /** Materials of the required items matched by type, used to reject a provided item with a single bit test. */
+    private Set<Material> requiredMaterials = Collections.emptySet();
+
+    /** Required items matched by type, grouped by material for the NBT/model-aware comparison. */
+    private Map<Material, List<ItemStack>> requiredItemsByMaterial = Collections.emptyMap();
+
+    /** Required items declaring an {@code item_model}, which can match a provided item of any material. */
+    private List<ItemStack> itemModelRequiredItems = Collections.emptyList();
+
     /**
      * Constructs an {@code ItemQuest} from a base quest descriptor.
      *
@@ -100,14 +112,44 @@ public abstract class ItemQuest extends AbstractQuest {
             return false;
         }
 
+        final boolean loaded;
         if (hasRandomRequired) {
             super.isRandomRequired = true;
-            return loadRequiredItems(section, file, index, ".random_required");
+            loaded = loadRequiredItems(section, file, index, ".random_required");
         } else {
             // Accept both legacy ".required_item" and ".required"
-            return loadRequiredItems(section, file, index, ".required_item")
+            loaded = loadRequiredItems(section, file, index, ".required_item")
                     && loadRequiredItems(section, file, index, ".required");
         }
+
+        if (loaded) buildLookupTables();
+        return loaded;
+    }
+
+    /**
+     * Builds the immutable lookup structures used by {@link #isRequiredItem(ItemStack, Progression)}.
+     * <p>Items declaring an {@code item_model} are kept apart, since they can match regardless of the material.</p>
+     */
+    private void buildLookupTables() {
+        final Set<Material> materials = EnumSet.noneOf(Material.class);
+        final Map<Material, List<ItemStack>> byMaterial = new EnumMap<>(Material.class);
+        final List<ItemStack> withItemModel = new ArrayList<>();
+
+        for (ItemStack item : requiredItems) {
+            if (item.hasItemMeta() && NMSHandler.hasItemModel(item.getItemMeta())) {
+                withItemModel.add(item);
+                continue;
+            }
+
+            materials.add(item.getType());
+            byMaterial.computeIfAbsent(item.getType(), k -> new ArrayList<>()).add(item);
+        }
+
+        byMaterial.replaceAll((material, items) -> List.copyOf(items));
+
+        this.requiredMaterials = Collections.unmodifiableSet(materials);
+        this.requiredItemsByMaterial = Collections.unmodifiableMap(byMaterial);
+        this.itemModelRequiredItems = List.copyOf(withItemModel);
     }
 
     /**
@@ -285,10 +327,19 @@ public abstract class ItemQuest extends AbstractQuest {
     public boolean isRequiredItem(ItemStack provided, Progression progression) {
         if (requiredItems == null || requiredItems.isEmpty()) return true;
 
-        final List<ItemStack> itemsToCheck = getItemsToCheck(progression);
-        if (itemsToCheck.isEmpty()) return false;
+        if (isRandomRequired) {
+            final ItemStack selected = getSelectedItem(progression);
+            return selected != null && matchesItem(selected, provided);
+        }
 
-        for (ItemStack item : itemsToCheck) {
+        final Material type = provided.getType();
+        if (requiredMaterials.contains(type)) {
+            for (ItemStack item : requiredItemsByMaterial.get(type)) {
+                if (matchesItem(item, provided)) return true;
+            }
+        }
+
+        for (ItemStack item : itemModelRequiredItems) {
             if (matchesItem(item, provided)) return true;
         }
 
@@ -297,23 +348,19 @@ public abstract class ItemQuest extends AbstractQuest {
     }
 
     /**
-     * Returns the list of items to check against the provided item:
-     * either all required items (fixed mode) or a singleton list with
-     * the currently selected random-required item.
+     * Returns the currently selected random-required item.
      *
      * @param progression progression data holding the selected index for random mode
-     * @return list of items to check (possibly empty)
+     * @return the selected item, or {@code null} if the stored index is invalid
      */
-    private List<ItemStack> getItemsToCheck(Progression progression) {
-        if (!isRandomRequired) return requiredItems;
-
+    private ItemStack getSelectedItem(Progression progression) {
         final int index = progression.getSelectedRequiredIndex();
         if (index < 0 || index >= requiredItems.size()) {
-            Debugger.write("ItemQuest:isRequiredItem: Invalid selectedRequiredIndex: " + index);
-            return List.of();
+            Debugger.write(() -> "ItemQuest:isRequiredItem: Invalid selectedRequiredIndex: " + index);
+            return null;
         }
 
-        return List.of(requiredItems.get(index));
+        return requiredItems.get(index);
     }
 
     /**
@@ -329,7 +376,7 @@ public abstract class ItemQuest extends AbstractQuest {
      * @return {@code true} if items match; {@code false} otherwise
      */
     private boolean matchesItem(ItemStack required, ItemStack provided) {
-        Debugger.write("ItemQuest:isRequiredItem: Checking if item is required: "
+        Debugger.write(() -> "ItemQuest:isRequiredItem: Checking if item is required: "
                 + required.getType() + " vs " + provided.getType() + ".");
 
         if (ignoreNbt && required.getType() == provided.getType()) {
@@ -9,14 +9,18 @@ import com.ordwen.odailyquests.configuration.integrations.ItemsAdderEnabled;
 import com.ordwen.odailyquests.configuration.integrations.NexoEnabled;
 import com.ordwen.odailyquests.configuration.integrations.OraxenEnabled;
 import com.ordwen.odailyquests.quests.categories.CategoriesLoader;
+import com.ordwen.odailyquests.quests.player.ActiveQuestsRegistry;
 import com.ordwen.odailyquests.quests.player.PlayerQuests;
 import com.ordwen.odailyquests.quests.player.QuestsManager;
 import com.ordwen.odailyquests.tools.PluginLogger;
+import com.ordwen.odailyquests.tools.QuestPlaceholders;
+import com.ordwen.odailyquests.tools.TextFormatter;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 public class ReloadService {
 
@@ -42,18 +46,19 @@ public class ReloadService {
 
     public void loadConnectedPlayerQuests(boolean sendStatusMessage) {
         for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!QuestsManager.getActiveQuests().containsKey(player.getName())) {
+            if (!QuestsManager.getActiveQuestsRegistry().contains(player.getUniqueId())) {
                 plugin.getDatabaseManager().loadQuestsForPlayer(player.getName(), sendStatusMessage);
             }
         }
     }
 
     /**
-     * Save all quests from connected players, to avoid errors on reload.
+     * Save the quests of all connected players and unload them, to avoid errors on reload.
      */
     public void saveConnectedPlayerQuests() {
-        final Map<String, PlayerQuests> activeQuests = new HashMap<>(QuestsManager.getActiveQuests());
-        for (Map.Entry<String, PlayerQuests> entry : activeQuests.entrySet()) {
+        final ActiveQuestsRegistry registry = QuestsManager.getActiveQuestsRegistry();
+        final Map<UUID, PlayerQuests> activeQuests = new HashMap<>(registry.byUuid());
+        for (Map.Entry<UUID, PlayerQuests> entry : activeQuests.entrySet()) {
             final Player player = Bukkit.getPlayer(entry.getKey());
             if (player == null) {
                 Debugger.write("Impossible to save progression for player " + entry.getKey() + " because the player is offline.");
@@ -61,8 +66,8 @@ public class ReloadService {
                 continue;
             }
 
-            plugin.getDatabaseManager().saveProgressionForPlayer(player.getName(), player.getUniqueId().toString(), entry.getValue());
-            QuestsManager.getActiveQuests().remove(entry.getKey());
+            plugin.getDatabaseManager().saveProgressionForPlayer(player.getName(), entry.getKey().toString(), entry.getValue(), true);
+            registry.remove(entry.getKey());
         }
     }
 
@@ -75,6 +80,10 @@ public class ReloadService {
             plugin.getFilesManager().load();
             ODQReloadEvent.call(plugin, ReloadPhase.FILES_LOADED);
 
+            /* forget the messages parsed from the previous files */
+            QuestPlaceholders.clearCache();
+            TextFormatter.clearCache();
+
             /* load configurations */
             ConfigFactory.registerConfigs(plugin.getFilesManager());
             ODQReloadEvent.call(plugin, ReloadPhase.CONFIGS_LOADED);
@@ -90,6 +99,11 @@ public class ReloadService {
 
                 categoriesLoader.loadCategories();
                 plugin.getInterfacesManager().initAllObjects();
+
+                /* listeners are registered on enable, after the first reload */
+                if (plugin.getEventsManager() != null) {
+                    plugin.getEventsManager().refreshQuestListeners();
+                }
                 ODQReloadEvent.call(plugin, ReloadPhase.CONTENT_LOADED);
             }
 
@@ -275,7 +275,7 @@ public class RewardManager {
      * @return the formatted string with placeholders replaced
      */
     private static String expandPlaceholders(Player player, String raw, Map<String, String> placeholders) {
-        String s = TextFormatter.format(TextFormatter.format(player, raw)).replace("%player%", player.getName());
+        String s = TextFormatter.format(player, raw).replace("%player%", player.getName());
         if (placeholders == null || placeholders.isEmpty()) return s;
         for (Map.Entry<String, String> e : placeholders.entrySet()) {
             final String k = e.getKey();
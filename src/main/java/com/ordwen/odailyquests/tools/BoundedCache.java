@@ -0,0 +1,55 @@
+package com.ordwen.odailyquests.tools;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache holding at most a fixed amount of values. When full, the least recently used value is evicted.
+ *
+ * @param <K> type of the keys.
+ * @param <V> type of the values.
+ */
+public class BoundedCache<K, V> {
+
+    private final Map<K, V> values;
+
+    /**
+     * @param maxSize maximum amount of cached values.
+     */
+    public BoundedCache(int maxSize) {
+        this.values = Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Get the cached value of a key, or compute and cache it. The value is computed outside the lock, so it may be
+     * computed more than once when requested concurrently.
+     *
+     * @param key    key of the value.
+     * @param loader computes the value when it is missing.
+     * @return the value.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        final V cached = values.get(key);
+        if (cached != null) return cached;
+
+        final V value = loader.apply(key);
+        if (value != null) {
+            values.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Remove all cached values.
+     */
+    public void clear() {
+        values.clear();
+    }
+}
@@ -7,7 +7,6 @@ import com.ordwen.odailyquests.quests.categories.CategoryGroup;
 import com.ordwen.odailyquests.quests.player.PlayerQuests;
 import com.ordwen.odailyquests.quests.player.QuestsManager;
 import com.ordwen.odailyquests.quests.player.progression.QuestLoaderUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import java.time.*;
@@ -26,17 +25,20 @@ public class GroupTimerTask {
 
     private final CategoryGroup group;
     private final ScheduledExecutorService scheduler;
+    private final RenewalQueue renewalQueue;
     private ScheduledFuture<?> scheduledTask;
 
     /**
      * Creates a new GroupTimerTask for the specified group.
      *
-     * @param group     the category group this timer manages
-     * @param scheduler the shared scheduler to use
+     * @param group        the category group this timer manages
+     * @param scheduler    the shared scheduler to use
+     * @param renewalQueue the queue processing the renewal of each player
      */
-    public GroupTimerTask(CategoryGroup group, ScheduledExecutorService scheduler) {
+    public GroupTimerTask(CategoryGroup group, ScheduledExecutorService scheduler, RenewalQueue renewalQueue) {
         this.group = group;
         this.scheduler = scheduler;
+        this.renewalQueue = renewalQueue;
     }
 
     /**
@@ -66,14 +68,11 @@ public class GroupTimerTask {
     }
 
     /**
-     * Executes the renewal for this group and reschedules the next execution.
+     * Submits the renewal of this group to the renewal queue and reschedules the next execution.
      */
     private void executeAndReschedule() {
         PluginLogger.info("Renewing quests for group '" + group.getName() + "'.");
-
-        for (Player player : Bukkit.getServer().getOnlinePlayers()) {
-            renewPlayerQuestsForGroup(player);
-        }
+        renewalQueue.submit(group.getName(), this::renewPlayerQuestsForGroup);
 
         scheduleNextExecution(LocalDateTime.now());
     }
@@ -91,7 +90,7 @@ public class GroupTimerTask {
             player.sendMessage(formattedMsg);
         }
 
-        final PlayerQuests playerQuests = ODailyQuestsAPI.getPlayerQuests(player.getName());
+        final PlayerQuests playerQuests = ODailyQuestsAPI.getPlayerQuests(player.getUniqueId());
         if (playerQuests == null) {
             PluginLogger.warn("Could not find quests for player " + player.getName() + " during group renewal.");
             return;
@@ -0,0 +1,190 @@
+package com.ordwen.odailyquests.tools;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A message parsed once into literal segments and placeholder slots.
+ * <p>
+ * Rendering fills the slots in a single pass, and only asks for the values of the slots present in the message,
+ * so an expensive value (progress bar, remaining time) is never computed for a message that does not display it.
+ */
+public final class MessageTemplate {
+
+    private static final Pattern FOREIGN_PLACEHOLDER = Pattern.compile("%[^%\\s]+%");
+
+    /**
+     * Placeholders handled by the templates.
+     */
+    public enum Slot {
+        PROGRESS("%progress%"),
+        PROGRESS_BAR("%progressBar%"),
+        REQUIRED("%required%"),
+        DISPLAY_NAME("%displayName%"),
+        ACHIEVED("%achieved%"),
+        DRAW_IN("%drawIn%"),
+        STATUS("%status%"),
+        REWARD_AMOUNT("%rewardAmount%"),
+        PLAYER("%player%"),
+        QUEST_NAME("%questName%");
+
+        private static final Slot[] VALUES = values();
+
+        private final String token;
+
+        Slot(String token) {
+            this.token = token;
+        }
+
+        public String getToken() {
+            return token;
+        }
+    }
+
+    /**
+     * Provides the value of a slot.
+     */
+    @FunctionalInterface
+    public interface SlotResolver {
+
+        /**
+         * Resolve the value of a slot.
+         *
+         * @param slot slot to resolve.
+         * @return the value, or null to leave the placeholder unchanged.
+         */
+        @Nullable
+        String resolve(Slot slot);
+    }
+
+    private final String source;
+    private final String[] literals;
+    private final Slot[] slots;
+    private final boolean foreignPlaceholders;
+
+    private MessageTemplate(String source, String[] literals, Slot[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.foreignPlaceholders = containsForeignPlaceholder(literals);
+    }
+
+    /**
+     * Parse a message into a template.
+     *
+     * @param source message to parse.
+     * @return the parsed template, or null if the message is null.
+     */
+    public static MessageTemplate compile(String source) {
+        if (source == null) return null;
+
+        final List<String> literals = new ArrayList<>();
+        final List<Slot> slots = new ArrayList<>();
+
+        int literalStart = 0;
+        int i = source.indexOf('%');
+        while (i >= 0) {
+            final Slot slot = slotAt(source, i);
+            if (slot == null) {
+                i = source.indexOf('%', i + 1);
+                continue;
+            }
+
+            literals.add(source.substring(literalStart, i));
+            slots.add(slot);
+            literalStart = i + slot.getToken().length();
+            i = source.indexOf('%', literalStart);
+        }
+        literals.add(source.substring(literalStart));
+
+        return new MessageTemplate(source, literals.toArray(new String[0]), slots.toArray(new Slot[0]));
+    }
+
+    private static Slot slotAt(String source, int index) {
+        for (Slot slot : Slot.VALUES) {
+            if (source.startsWith(slot.getToken(), index)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private static boolean containsForeignPlaceholder(String[] literals) {
+        for (String literal : literals) {
+            if (literal.indexOf('%') >= 0 && FOREIGN_PLACEHOLDER.matcher(literal).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if the template contains at least one placeholder.
+     *
+     * @return true if the template has placeholders to fill.
+     */
+    public boolean hasSlots() {
+        return slots.length > 0;
+    }
+
+    /**
+     * Check if the template contains the given placeholder.
+     *
+     * @param slot placeholder to look for.
+     * @return true if the placeholder is present at least once.
+     */
+    public boolean hasSlot(Slot slot) {
+        for (Slot present : slots) {
+            if (present == slot) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check if the message contains placeholders that are not handled by the templates, such as PlaceholderAPI ones.
+     *
+     * @return true if at least one foreign placeholder is present.
+     */
+    public boolean hasForeignPlaceholders() {
+        return foreignPlaceholders;
+    }
+
+    /**
+     * Fill the placeholders of the template. Each slot is resolved at most once, even if it appears several times.
+     *
+     * @param resolver provides the value of each slot present in the template.
+     * @return the rendered message.
+     */
+    public String render(SlotResolver resolver) {
+        if (slots.length == 0) return source;
+
+        final String[] values = new String[Slot.VALUES.length];
+        final boolean[] resolved = new boolean[Slot.VALUES.length];
+
+        final StringBuilder builder = new StringBuilder(source.length() + 16 * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+
+            final Slot slot = slots[i];
+            final int ordinal = slot.ordinal();
+            if (!resolved[ordinal]) {
+                values[ordinal] = resolver.resolve(slot);
+                resolved[ordinal] = true;
+            }
+
+            final String value = values[ordinal];
+            builder.append(value != null ? value : slot.getToken());
+        }
+        builder.append(literals[slots.length]);
+
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -4,32 +4,102 @@ import com.ordwen.odailyquests.configuration.functionalities.progression.Progres
 import com.ordwen.odailyquests.quests.player.PlayerQuests;
 import com.ordwen.odailyquests.quests.player.progression.Progression;
 import com.ordwen.odailyquests.quests.types.AbstractQuest;
+import com.ordwen.odailyquests.tools.MessageTemplate.Slot;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
 
 public final class QuestPlaceholders {
 
-    private static final String PROGRESS = "%progress%";
-    private static final String PROGRESS_BAR = "%progressBar%";
-    private static final String REQUIRED = "%required%";
-    private static final String DISPLAY_NAME = "%displayName%";
-    private static final String ACHIEVED = "%achieved%";
-    private static final String DRAW_IN = "%drawIn%";
-    private static final String STATUS = "%status%";
-    private static final String REWARD_AMOUNT = "%rewardAmount%";
+    /* messages are quest names, descriptions and menu lines from configuration files, so the set is small */
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+    private static final BoundedCache<String, MessageTemplate> TEMPLATES = new BoundedCache<>(MAX_CACHED_TEMPLATES);
 
     private QuestPlaceholders() {
     }
 
+    /**
+     * Get the parsed template of a message, parsing it on first use.
+     * Messages must be raw configuration texts, before any placeholder is replaced.
+     *
+     * @param input message to parse.
+     * @return the parsed template.
+     */
+    public static MessageTemplate getTemplate(String input) {
+        return TEMPLATES.get(input, MessageTemplate::compile);
+    }
+
+    /**
+     * Forget the parsed templates, when the configuration files are reloaded.
+     */
+    public static void clearCache() {
+        TEMPLATES.clear();
+    }
+
+    /**
+     * Resolve a progression placeholder.
+     *
+     * @param slot         slot to resolve.
+     * @param progress     current progression.
+     * @param required     required amount.
+     * @param rewardAmount amount of reward.
+     * @return the value, or null if the slot is not a progression placeholder.
+     */
+    public static String resolveProgressSlot(Slot slot, int progress, int required, double rewardAmount) {
+        return switch (slot) {
+            case REWARD_AMOUNT -> String.valueOf(rewardAmount);
+            case PROGRESS -> String.valueOf(progress);
+            case REQUIRED -> String.valueOf(required);
+            case PROGRESS_BAR -> ProgressBar.getProgressBar(progress, required);
+            default -> null;
+        };
+    }
+
+    /**
+     * Fill the player and quest name placeholders of a template, leaving the other placeholders unchanged.
+     *
+     * @param template  template to render.
+     * @param player    player the message is sent to.
+     * @param questName formatted quest name.
+     * @return the rendered message, or null if the template is null.
+     */
+    public static String replacePlayerPlaceholders(MessageTemplate template, Player player, String questName) {
+        if (template == null) {
+            return null;
+        }
+
+        return template.render(slot -> switch (slot) {
+            case PLAYER -> player.getDisplayName();
+            case QUEST_NAME -> questName;
+            default -> null;
+        });
+    }
+
+    /**
+     * Check if a message may render differently from one moment to the next, because it displays the time remaining
+     * before the next draw or contains PlaceholderAPI placeholders.
+     *
+     * @param input message to check.
+     * @return true if the message depends on the time it is rendered at.
+     */
+    public static boolean isTimeDependent(String input) {
+        if (input == null || input.indexOf('%') < 0) {
+            return false;
+        }
+
+        final MessageTemplate template = getTemplate(input);
+        return template.hasSlot(Slot.DRAW_IN)
+                || (TextFormatter.isPlaceholderAPIEnabled() && template.hasForeignPlaceholders());
+    }
+
     public static String replaceProgressPlaceholders(String input, int progress, int required, double rewardAmount) {
         if (input == null) {
             return null;
         }
 
-        return input.replace(REWARD_AMOUNT, String.valueOf(rewardAmount))
-                .replace(PROGRESS, String.valueOf(progress))
-                .replace(REQUIRED, String.valueOf(required))
-                .replace(PROGRESS_BAR, ProgressBar.getProgressBar(progress, required));
+        final MessageTemplate template = getTemplate(input);
+        if (!template.hasSlots()) return input;
+
+        return template.render(slot -> resolveProgressSlot(slot, progress, required, rewardAmount));
     }
 
     public static String replaceQuestPlaceholders(
@@ -44,28 +114,18 @@ public final class QuestPlaceholders {
             return null;
         }
 
-        String result = input;
-
-        if (progression != null) {
-            result = replaceProgressPlaceholders(result, progression.getAdvancement(), progression.getRequiredAmount(), progression.getRequiredAmount());
-        }
-
-        if (quest != null && progression != null) {
-            result = result.replace(DISPLAY_NAME, DisplayName.getDisplayName(quest, progression.getSelectedRequiredIndex()));
-        }
-
-        if (playerQuests != null) {
-            result = result.replace(ACHIEVED, String.valueOf(playerQuests.getAchievedQuests()));
-        }
-
-        if (player != null) {
-            result = result.replace(DRAW_IN, TimeRemain.timeRemain(player.getName()));
-        }
-
-        if (status != null) {
-            result = result.replace(STATUS, status);
-        }
+        final MessageTemplate template = getTemplate(input);
+        if (!template.hasSlots()) return input;
 
-        return result;
+        return template.render(slot -> switch (slot) {
+            case PROGRESS, REQUIRED, PROGRESS_BAR, REWARD_AMOUNT -> progression == null ? null
+                    : resolveProgressSlot(slot, progression.getAdvancement(), progression.getRequiredAmount(), progression.getRequiredAmount());
+            case DISPLAY_NAME -> quest == null || progression == null ? null
+                    : DisplayName.getDisplayName(quest, progression.getSelectedRequiredIndex());
+            case ACHIEVED -> playerQuests == null ? null : String.valueOf(playerQuests.getAchievedQuests());
+            case DRAW_IN -> player == null ? null : TimeRemain.timeRemain(player.getName());
+            case STATUS -> status;
+            default -> null;
+        });
     }
 }
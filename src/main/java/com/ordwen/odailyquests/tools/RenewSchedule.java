@@ -111,14 +111,20 @@ public final class RenewSchedule {
      * @return {@code true} if a renewal should occur, {@code false} otherwise
      */
     public static boolean shouldRenewSince(ZonedDateTime lastRenew, ZonedDateTime now, Settings s) {
-        // Next tick strictly after lastRenew
-        ZonedDateTime nextAfterLast = nextExecutionAtOrAfter(lastRenew, s);
-        if (nextAfterLast.isEqual(lastRenew)) {
-            nextAfterLast = nextAfterLast.plus(s.interval());
-        }
-        return !nextAfterLast.isAfter(now); // nextAfterLast <= now
+        return !nextExecutionAfter(lastRenew, s).isAfter(now); // next execution after lastRenew <= now
     }
 
+    /**
+     * Computes the first scheduled execution strictly after {@code time}.
+     *
+     * @param time the reference date-time
+     * @param s    the schedule settings
+     * @return the next scheduled execution time after {@code time}
+     */
+    public static ZonedDateTime nextExecutionAfter(ZonedDateTime time, Settings s) {
+        final ZonedDateTime next = nextExecutionAtOrAfter(time, s);
+        return next.isEqual(time) ? next.plus(s.interval()) : next;
+    }
 
     /**
      * Returns the number of milliseconds remaining until the next scheduled execution.
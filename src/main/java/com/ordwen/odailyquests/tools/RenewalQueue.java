@@ -0,0 +1,152 @@
+package com.ordwen.odailyquests.tools;
+
+import com.ordwen.odailyquests.ODailyQuests;
+import com.ordwen.odailyquests.configuration.essentials.Debugger;
+import com.ordwen.odailyquests.configuration.essentials.RenewTickBudget;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import space.arim.morepaperlib.scheduling.ScheduledTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Work queue used to renew player quests without a lag spike.
+ * <p>
+ * Renewal timers only submit a job. Jobs are processed on the global region thread (the main thread on Paper/Spigot),
+ * a few players per tick, within the time budget configured by {@link RenewTickBudget}.
+ * The online players are captured when a job starts, and players who left meanwhile are skipped.
+ */
+public class RenewalQueue {
+
+    /* interval between two progress reports of a running job, in ticks */
+    private static final long REPORT_INTERVAL_TICKS = 100L;
+
+    private final Queue<Job> jobs = new ConcurrentLinkedQueue<>();
+    private ScheduledTask task;
+
+    private Job current;
+    private long ticksSinceReport;
+
+    /**
+     * A renewal job, applied to each player online when the job starts.
+     */
+    private static final class Job {
+        private final String label;
+        private final Consumer<Player> action;
+
+        private Deque<UUID> players;
+        private int total;
+        private int processed;
+        private int ticks;
+        private long startNanos;
+
+        private Job(String label, Consumer<Player> action) {
+            this.label = label;
+            this.action = action;
+        }
+    }
+
+    /**
+     * Starts processing the submitted jobs.
+     */
+    public void start() {
+        if (task != null) return;
+        task = ODailyQuests.morePaperLib.scheduling().globalRegionalScheduler().runAtFixedRate(this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops processing and discards the pending jobs.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        jobs.clear();
+        current = null;
+    }
+
+    /**
+     * Submits a renewal job. Can be called from any thread.
+     *
+     * @param label  name of the job, used in logs
+     * @param action renewal to apply to each online player
+     */
+    public void submit(String label, Consumer<Player> action) {
+        jobs.add(new Job(label, action));
+    }
+
+    /**
+     * Gets the amount of players still waiting to be renewed by the running job.
+     *
+     * @return the remaining amount of players, or 0 if no job is running
+     */
+    public int getRemainingPlayers() {
+        final Job job = current;
+        return job == null || job.players == null ? 0 : job.players.size();
+    }
+
+    private void tick() {
+        if (current == null) {
+            current = jobs.poll();
+            if (current == null) return;
+            begin(current);
+        }
+
+        final Job job = current;
+        final long deadline = System.nanoTime() + RenewTickBudget.getBudgetNanos();
+        job.ticks++;
+
+        // always renew at least one player, so a job ends even with a tiny budget
+        do {
+            final UUID uuid = job.players.poll();
+            if (uuid == null) break;
+
+            final Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                try {
+                    job.action.accept(player);
+                } catch (Exception e) {
+                    PluginLogger.error("An error occurred while renewing the quests of " + player.getName() + ".");
+                    PluginLogger.error(e.getMessage());
+                }
+            }
+            job.processed++;
+        } while (System.nanoTime() < deadline);
+
+        if (job.players.isEmpty()) {
+            finish(job);
+            current = null;
+            return;
+        }
+
+        if (++ticksSinceReport >= REPORT_INTERVAL_TICKS) {
+            ticksSinceReport = 0;
+            PluginLogger.info("Renewal '" + job.label + "': " + job.processed + "/" + job.total + " players processed.");
+        }
+        Debugger.write(() -> "RenewalQueue: " + job.label + " " + job.processed + "/" + job.total + " after " + job.ticks + " tick(s).");
+    }
+
+    private void begin(Job job) {
+        job.players = new ArrayDeque<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            job.players.add(player.getUniqueId());
+        }
+        job.total = job.players.size();
+        job.startNanos = System.nanoTime();
+        ticksSinceReport = 0;
+
+        PluginLogger.info("Renewal '" + job.label + "' started for " + job.total + " player(s).");
+    }
+
+    private void finish(Job job) {
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - job.startNanos);
+        PluginLogger.info("Renewal '" + job.label + "' completed: " + job.processed + " player(s) in " + job.ticks + " tick(s) (" + elapsed + " ms).");
+    }
+}
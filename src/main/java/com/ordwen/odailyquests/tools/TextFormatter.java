@@ -4,15 +4,19 @@ import me.clip.placeholderapi.PlaceholderAPI;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.entity.Player;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 public class TextFormatter {
 
     private TextFormatter() {
     }
 
-    private static final Pattern HEX_PATTERN = Pattern.compile("#[a-fA-F0-9]{6}");
+    /* length of a "#RRGGBB" hex color */
+    private static final int HEX_LENGTH = 7;
+    private static final String LEGACY_CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+
+    /* static messages are mostly configuration texts, least recently used ones are evicted when it is full */
+    private static final int MAX_CACHED_MESSAGES = 4096;
+    private static final BoundedCache<String, String> TRANSLATED = new BoundedCache<>(MAX_CACHED_MESSAGES);
+
     private static boolean placeholderAPIEnabled = false;
 
     /**
@@ -34,17 +38,24 @@ public class TextFormatter {
     }
 
     /**
-     * Format a message, replacing color codes.
+     * Format a static message, replacing color codes. The translation is cached, so this must only be used for
+     * texts read from the configuration, never for texts holding player values.
      *
      * @param message message to format
      */
     public static String format(String message) {
         if (message == null) return null;
-        return replaceAll(message);
+
+        // nothing to translate, not worth a cache entry
+        if (message.indexOf('#') < 0 && message.indexOf('&') < 0) return message;
+
+        return TRANSLATED.get(message, TextFormatter::replaceAll);
     }
 
     /**
      * Format a message for a player, replacing placeholders and color codes.
+     * <p>
+     * Messages given here usually hold the values of a player (progress, names), so they are not cached.
      *
      * @param player  player
      * @param message message to format
@@ -53,40 +64,73 @@ public class TextFormatter {
     public static String format(Player player, String message) {
         if (message == null) return null;
 
-        if (placeholderAPIEnabled) {
-            message = PlaceholderAPI.setPlaceholders(player, message);
+        if (!placeholderAPIEnabled || message.indexOf('%') < 0) {
+            return replaceAll(message);
         }
 
-        message = replaceAll(message);
+        return replaceAll(PlaceholderAPI.setPlaceholders(player, message));
+    }
 
-        return message;
+    /**
+     * Forget the translated messages, when the configuration files are reloaded.
+     */
+    public static void clearCache() {
+        TRANSLATED.clear();
     }
 
     /**
-     * Apply color codes to a message.
+     * Apply hex and legacy color codes to a message, in a single pass.
+     * <p>
+     * {@code #RRGGBB} is replaced by the matching hex color, and {@code &} followed by a color or format code
+     * is replaced by the {@link ChatColor#COLOR_CHAR} equivalent.
      *
      * @param message message to apply color codes to
      * @return message with color codes applied
      */
     private static String replaceAll(String message) {
-        message = applyHexColor(message);
-        message = ChatColor.translateAlternateColorCodes('&', message);
-        return message;
+        if (message.indexOf('#') < 0 && message.indexOf('&') < 0) return message;
+
+        final int length = message.length();
+        final StringBuilder builder = new StringBuilder(length + 16);
+
+        int i = 0;
+        while (i < length) {
+            final char c = message.charAt(i);
+
+            if (c == '#' && isHexColor(message, i)) {
+                builder.append(ChatColor.of(message.substring(i, i + HEX_LENGTH)));
+                i += HEX_LENGTH;
+                continue;
+            }
+
+            if (c == '&' && i + 1 < length && LEGACY_CODES.indexOf(message.charAt(i + 1)) >= 0) {
+                builder.append(ChatColor.COLOR_CHAR).append(Character.toLowerCase(message.charAt(i + 1)));
+                i += 2;
+                continue;
+            }
+
+            builder.append(c);
+            i++;
+        }
+
+        return builder.toString();
     }
 
     /**
-     * Replace hex color codes with ChatColor.
+     * Check if a {@code #RRGGBB} hex color starts at the given index.
      *
-     * @param message message to replace
-     * @return message with replaced hex color codes
+     * @param message message to check
+     * @param index   index of the {@code #} character
+     * @return true if a hex color starts at this index
      */
-    private static String applyHexColor(String message) {
-        Matcher matcher = HEX_PATTERN.matcher(message);
-        while (matcher.find()) {
-            String hexCode = matcher.group();
-            message = message.replace(hexCode, ChatColor.of(hexCode).toString());
-            matcher = HEX_PATTERN.matcher(message);
+    private static boolean isHexColor(String message, int index) {
+        if (index + HEX_LENGTH > message.length()) return false;
+
+        for (int i = index + 1; i < index + HEX_LENGTH; i++) {
+            final char c = message.charAt(i);
+            final boolean hexDigit = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!hexDigit) return false;
         }
-        return message;
+        return true;
     }
 }
@@ -19,6 +19,7 @@ public class TimerManager {
 
     private final Map<String, GroupTimerTask> timers = new HashMap<>();
     private final ScheduledExecutorService scheduler;
+    private final RenewalQueue renewalQueue = new RenewalQueue();
 
     /**
      * Creates a new TimerManager with a shared thread pool.
@@ -37,12 +38,13 @@ public class TimerManager {
      */
     public void start(LocalDateTime start) {
         PluginLogger.info("Starting timer manager with " + CategoryGroupsLoader.getGroupNames().size() + " group(s).");
+        renewalQueue.start();
 
         for (Map.Entry<String, CategoryGroup> entry : CategoryGroupsLoader.getAllGroups().entrySet()) {
             final String groupName = entry.getKey();
             final CategoryGroup group = entry.getValue();
 
-            final GroupTimerTask timer = new GroupTimerTask(group, scheduler);
+            final GroupTimerTask timer = new GroupTimerTask(group, scheduler, renewalQueue);
             timer.scheduleNextExecution(start);
             timers.put(groupName, timer);
 
@@ -79,6 +81,7 @@ public class TimerManager {
         timers.clear();
 
         scheduler.shutdownNow();
+        renewalQueue.stop();
     }
 
     /**
@@ -91,6 +94,15 @@ public class TimerManager {
         return timers.get(groupName);
     }
 
+    /**
+     * Gets the queue processing the renewal of each player.
+     *
+     * @return the renewal queue
+     */
+    public RenewalQueue getRenewalQueue() {
+        return renewalQueue;
+    }
+
     /**
      * Gets all active timers.
      *
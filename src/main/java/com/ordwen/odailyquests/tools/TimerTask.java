@@ -5,7 +5,6 @@ import com.ordwen.odailyquests.enums.QuestsMessages;
 import com.ordwen.odailyquests.quests.player.PlayerQuests;
 import com.ordwen.odailyquests.quests.player.QuestsManager;
 import com.ordwen.odailyquests.quests.player.progression.QuestLoaderUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import java.time.*;
@@ -18,6 +17,7 @@ import java.util.concurrent.TimeUnit;
 public class TimerTask {
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final RenewalQueue renewalQueue = new RenewalQueue();
     private ScheduledFuture<?> scheduledTask;
 
     /**
@@ -26,6 +26,7 @@ public class TimerTask {
      * @param start date and time to start the task.
      */
     public TimerTask(LocalDateTime start) {
+        renewalQueue.start();
         scheduleNextExecution(start);
     }
 
@@ -49,19 +50,23 @@ public class TimerTask {
 
     private void executeAndReschedule() {
         PluginLogger.info("It's a new day. The player quests are being reloaded.");
-        for (Player player : Bukkit.getServer().getOnlinePlayers()) {
-            final String msg = QuestsMessages.NEW_DAY.toString();
-            if (msg != null) player.sendMessage(msg);
-
-            final PlayerQuests playerQuests = ODailyQuestsAPI.getPlayerQuests(player.getName());
-            final int totalAchievedQuests = playerQuests.getTotalAchievedQuests();
-            final Map<String, Integer> totalAchievedQuestsByCategory = playerQuests.getTotalAchievedQuestsByCategory();
-            QuestLoaderUtils.loadNewPlayerQuests(player.getName(), QuestsManager.getActiveQuests(), totalAchievedQuestsByCategory, totalAchievedQuests);
-        }
+        renewalQueue.submit("daily", this::renewPlayerQuests);
 
         scheduleNextExecution(LocalDateTime.now());
     }
 
+    private void renewPlayerQuests(Player player) {
+        final String msg = QuestsMessages.NEW_DAY.toString();
+        if (msg != null) player.sendMessage(msg);
+
+        final PlayerQuests playerQuests = ODailyQuestsAPI.getPlayerQuests(player.getUniqueId());
+        if (playerQuests == null) return;
+
+        final int totalAchievedQuests = playerQuests.getTotalAchievedQuests();
+        final Map<String, Integer> totalAchievedQuestsByCategory = playerQuests.getTotalAchievedQuestsByCategory();
+        QuestLoaderUtils.loadNewPlayerQuests(player.getName(), QuestsManager.getActiveQuests(), totalAchievedQuestsByCategory, totalAchievedQuests);
+    }
+
     public void reload() {
        cancel();
         scheduleNextExecution(LocalDateTime.now());
@@ -75,5 +80,6 @@ public class TimerTask {
 
     public void stop() {
         scheduler.shutdownNow();
+        renewalQueue.stop();
     }
 }
@@ -0,0 +1,23 @@
+package com.ordwen.odailyquests.tools.updater.config.updates;
+
+import com.ordwen.odailyquests.ODailyQuests;
+import com.ordwen.odailyquests.tools.updater.config.ConfigUpdater;
+
+public class Update302to303 extends ConfigUpdater {
+
+    public Update302to303(ODailyQuests plugin) {
+        super(plugin);
+    }
+
+    @Override
+    public void apply(ODailyQuests plugin, String version) {
+        setDefaultConfigItem("autosave.enabled", true, config, configFile, false);
+        setDefaultConfigItem("autosave.interval", 5.0, config, configFile, false);
+        setDefaultConfigItem("autosave.players_per_second", 20, config, configFile, false);
+        setDefaultConfigItem("renew_tick_budget", 5, config, configFile, false);
+        setDefaultConfigItem("placeholders.cache_ttl", 1000, config, configFile, false);
+        setDefaultConfigItem("progression_message.coalesce_window", 250, config, configFile, false);
+
+        updateVersion(version);
+    }
+}